@@ -0,0 +1,37 @@
+package asteroids.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * A class to run all benchmarks of the ship model and the facade.
+ *
+ * The benchmarks run with the GC profiler, so that the report shows the allocation rate
+ * of each hot path next to its average time. The benchmarks to run can be restricted by
+ * passing a regular expression as the first argument.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * This class only offers a main method.
+	 */
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(args.length > 0 ? args[0] : "asteroids\\.benchmarks\\..*")
+				.addProfiler(GCProfiler.class)
+				.warmupIterations(5)
+				.measurementIterations(5)
+				.forks(1)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,114 @@
+package asteroids.model;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+import be.kuleuven.cs.som.annotate.Value;
+
+/**
+ * A class representing a predicted collision between two ships.
+ *
+ * @invar  Both ships of each collision are effective and different.
+ *       | (getShip1() != null) && (getShip2() != null) && (getShip1() != getShip2())
+ * @invar  The time of each collision is non-negative and finite.
+ *       | (getTime() >= 0) && (getTime() < Double.POSITIVE_INFINITY)
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@Value
+public final class Collision {
+
+	/**
+	 * Initialize this new collision with the given ships, time and position.
+	 *
+	 * @param  ship1
+	 * 			The first ship involved in this new collision.
+	 * @param  ship2
+	 * 			The second ship involved in this new collision.
+	 * @param  time
+	 * 			The time until this new collision.
+	 * @param  position
+	 * 			The position where both ships touch.
+	 * @post   | new.getShip1() == ship1
+	 * @post   | new.getShip2() == ship2
+	 * @post   | new.getTime() == time
+	 * @post   | new.getPosition() == position
+	 * @throws IllegalArgumentException
+	 * 			One of the given ships is not effective, both ships are the same, or the given time
+	 * 			is negative or not finite.
+	 * 			| (ship1 == null) || (ship2 == null) || (ship1 == ship2) || ! (time >= 0) || (time == Double.POSITIVE_INFINITY)
+	 */
+	public Collision(Ship ship1, Ship ship2, double time, ImmutablePosition position) throws IllegalArgumentException {
+		if ((ship1 == null) || (ship2 == null) || (ship1 == ship2) || ! (time >= 0) || (time == Double.POSITIVE_INFINITY))
+			throw new IllegalArgumentException();
+		this.ship1 = ship1;
+		this.ship2 = ship2;
+		this.time = time;
+		this.position = position;
+	}
+
+
+	/**
+	 * Return the first ship involved in this collision.
+	 */
+	@Basic @Immutable
+	public Ship getShip1() {
+		return this.ship1;
+	}
+
+	/**
+	 * Variable registering the first ship involved in this collision.
+	 */
+	private final Ship ship1;
+
+
+	/**
+	 * Return the second ship involved in this collision.
+	 */
+	@Basic @Immutable
+	public Ship getShip2() {
+		return this.ship2;
+	}
+
+	/**
+	 * Variable registering the second ship involved in this collision.
+	 */
+	private final Ship ship2;
+
+
+	/**
+	 * Return the time until this collision, in seconds.
+	 */
+	@Basic @Immutable
+	public double getTime() {
+		return this.time;
+	}
+
+	/**
+	 * Variable registering the time until this collision.
+	 */
+	private final double time;
+
+
+	/**
+	 * Return the position where both ships of this collision touch.
+	 */
+	@Basic @Immutable
+	public ImmutablePosition getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Variable registering the position where both ships of this collision touch.
+	 */
+	private final ImmutablePosition position;
+
+
+	/**
+	 * Return a textual representation of this collision.
+	 */
+	@Override
+	public String toString() {
+		return "Collision after " + getTime() + "s at " + getPosition();
+	}
+}
@@ -0,0 +1,160 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+
+/**
+ * A class of event-driven engines simulating the ships of a world.
+ *
+ * Instead of moving the ships over fixed time steps and checking for collisions after each step,
+ * an engine moves all ships exactly to the next predicted collision, resolves that collision with
+ * its collision response, and continues from there. Only the pairs involving ships affected by the
+ * response are predicted anew, so worlds in which collisions are rare are simulated at almost no cost.
+ *
+ * @invar  The clock of each engine is non-negative.
+ *       | getClock() >= 0
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class CollisionEngine {
+
+	/**
+	 * Initialize this new engine for the given world with the given collision response.
+	 *
+	 * @param  world
+	 * 			The world to simulate.
+	 * @param  response
+	 * 			The response with which collisions are resolved.
+	 * @post   The world of this new engine is the given world.
+	 * 			| new.getWorld() == world
+	 * @post   The collision response of this new engine is the given response.
+	 * 			| new.getResponse() == response
+	 * @post   The clock of this new engine is zero.
+	 * 			| new.getClock() == 0
+	 * @throws IllegalArgumentException
+	 * 			The given world or the given response is not effective.
+	 * 			| (world == null) || (response == null)
+	 */
+	public CollisionEngine(World world, CollisionResponse response) throws IllegalArgumentException {
+		if (response == null)
+			throw new IllegalArgumentException();
+		this.queue = new CollisionQueue(world);
+		this.response = response;
+	}
+
+
+	/**
+	 * Return the world simulated by this engine.
+	 */
+	@Basic @Immutable
+	public World getWorld() {
+		return this.queue.getWorld();
+	}
+
+	/**
+	 * Return the response with which this engine resolves collisions.
+	 */
+	@Basic @Immutable
+	public CollisionResponse getResponse() {
+		return this.response;
+	}
+
+	/**
+	 * Variable registering the response with which this engine resolves collisions.
+	 */
+	private final CollisionResponse response;
+
+	/**
+	 * Return the total time simulated by this engine.
+	 */
+	@Basic
+	public double getClock() {
+		return this.queue.getClock();
+	}
+
+	/**
+	 * Return the number of collisions resolved by this engine.
+	 */
+	@Basic
+	public long getNbCollisions() {
+		return this.nbCollisions;
+	}
+
+	/**
+	 * Variable registering the number of collisions resolved by this engine.
+	 */
+	private long nbCollisions = 0;
+
+
+	/**
+	 * Simulate the world of this engine during the given duration.
+	 *
+	 * @param  duration
+	 * 			The duration to simulate.
+	 * @return The collisions resolved during the simulation, in the order in which they happened. The time
+	 * 			of each collision is measured from the start of the simulation.
+	 * @post   The clock of this engine is advanced by the given duration.
+	 * 			| new.getClock() == getClock() + duration
+	 * @post   The number of collisions of this engine is incremented by the number of resolved collisions.
+	 * 			| new.getNbCollisions() == getNbCollisions() + result.size()
+	 * @throws IllegalArgumentException
+	 * 			The given duration is strictly less than 0, infinite or not a number.
+	 * 			| ! ((duration >= 0) && (duration < Double.POSITIVE_INFINITY))
+	 * @throws IllegalCoordinateException
+	 * 			Some ship of the world reaches an invalid position.
+	 */
+	public List<Collision> advance(double duration) throws IllegalArgumentException, IllegalCoordinateException {
+		if (! ((duration >= 0) && (duration < Double.POSITIVE_INFINITY)))
+			throw new IllegalArgumentException();
+		List<Collision> result = new ArrayList<Collision>();
+		double elapsed = 0;
+		Collision collision = queue.getNextCollision();
+		while ((collision != null) && (elapsed + collision.getTime() <= duration)) {
+			resolve(collision);
+			elapsed += collision.getTime();
+			result.add(new Collision(collision.getShip1(), collision.getShip2(), elapsed, collision.getPosition()));
+			collision = queue.getNextCollision();
+		}
+		queue.advance(duration - elapsed);
+		return result;
+	}
+
+	/**
+	 * Simulate the world of this engine up to and including its next collision.
+	 *
+	 * @return null if no two ships of the world will ever collide, in which case nothing changes.
+	 * @return Otherwise, the next collision, whose time is the duration that was simulated.
+	 * 			| result.equals(new CollisionQueue(getWorld()).getNextCollision())
+	 * @post   If there is a next collision, the clock of this engine is advanced to it and the collision is resolved.
+	 * 			| if (result != null)
+	 * 			|	then (new.getClock() == getClock() + result.getTime()) && (new.getNbCollisions() == getNbCollisions() + 1)
+	 * @throws IllegalCoordinateException
+	 * 			Some ship of the world reaches an invalid position.
+	 */
+	public Collision advanceToNextCollision() throws IllegalCoordinateException {
+		Collision collision = queue.getNextCollision();
+		if (collision != null)
+			resolve(collision);
+		return collision;
+	}
+
+	/**
+	 * Move all ships to the given collision and resolve it.
+	 */
+	private void resolve(Collision collision) throws IllegalCoordinateException {
+		// A response may leave both ships unchanged, in which case the queue would report the collision again.
+		queue.removeNextCollision();
+		queue.advance(collision.getTime());
+		getResponse().resolve(getWorld(), collision);
+		this.nbCollisions++;
+	}
+
+	/**
+	 * Variable referencing the queue predicting the collisions in the world of this engine.
+	 */
+	private final CollisionQueue queue;
+}
@@ -0,0 +1,379 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A class of static methods computing the time to collision of every pair of ships in a list,
+ * in parallel on a fork/join pool.
+ *
+ * The pairs (i, j) with i < j of a list of n ships form the upper triangle of an n by n matrix. This triangle
+ * is cut into square tiles of at most TILE_SIZE by TILE_SIZE pairs, and the tiles are handled by the tasks
+ * of the pool. Pairs of overlapping ships have no time to collision. They are marked with {@link #OVERLAP}
+ * instead of aborting the whole computation.
+ *
+ * The ships must not be changed while one of these methods is running.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public final class CollisionMatrix {
+
+	/**
+	 * This class only offers static methods.
+	 */
+	private CollisionMatrix() {
+	}
+
+	/**
+	 * Constant marking a pair of overlapping ships.
+	 */
+	public static final double OVERLAP = Double.NaN;
+
+	/**
+	 * Constant registering the number of rows and columns in a tile of the matrix.
+	 */
+	private static final int TILE_SIZE = 128;
+
+
+	/**
+	 * Return the index of the pair of ships with the given indices in a packed matrix.
+	 *
+	 * @param  i
+	 * 			The index of the first ship.
+	 * @param  j
+	 * 			The index of the second ship.
+	 * @param  nbShips
+	 * 			The number of ships.
+	 * @return The number of pairs preceding the pair (i, j) in row-major order of the upper triangle.
+	 * 			| result == i * (2 * nbShips - i - 1) / 2 + (j - i - 1)
+	 * @throws IllegalArgumentException
+	 * 			The given indices do not denote a pair in the upper triangle.
+	 * 			| ! ((0 <= i) && (i < j) && (j < nbShips))
+	 */
+	public static int getIndex(int i, int j, int nbShips) throws IllegalArgumentException {
+		if (! ((0 <= i) && (i < j) && (j < nbShips)))
+			throw new IllegalArgumentException();
+		return (int) ((long) i * (2L * nbShips - i - 1) / 2 + (j - i - 1));
+	}
+
+	/**
+	 * Compute the time to collision of every pair of different ships in the given list, using the common pool.
+	 *
+	 * @effect | compute(ships, ForkJoinPool.commonPool())
+	 */
+	public static double[] compute(List<Ship> ships) throws IllegalArgumentException {
+		return compute(ships, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Compute the time to collision of every pair of different ships in the given list.
+	 *
+	 * @param  ships
+	 * 			The ships whose times to collision must be computed.
+	 * @param  pool
+	 * 			The pool on which to compute them.
+	 * @return A packed array with the time to collision of each pair (i, j) with i < j at index
+	 * 			getIndex(i, j, ships.size()), or OVERLAP if both ships overlap.
+	 * 			| for each i, j in 0..ships.size()-1:
+	 * 			|	if (i < j)
+	 * 			|		then if (Ship.overlap(ships.get(i), ships.get(j)))
+	 * 			|				then Double.isNaN(result[getIndex(i, j, ships.size())])
+	 * 			|			 else result[getIndex(i, j, ships.size())] == Ship.getTimeToCollision(ships.get(i), ships.get(j))
+	 * @throws IllegalArgumentException
+	 * 			The list contains a non-effective ship, or has too many ships to pack their pairs in an array.
+	 * 			| ships.contains(null) || ((long) ships.size() * (ships.size() - 1) / 2 > Integer.MAX_VALUE)
+	 */
+	public static double[] compute(List<Ship> ships, ForkJoinPool pool) throws IllegalArgumentException {
+		final Ship[] shipArray = toArray(ships);
+		long nbPairs = (long) shipArray.length * (shipArray.length - 1) / 2;
+		if (nbPairs > Integer.MAX_VALUE)
+			throw new IllegalArgumentException();
+		final double[] times = new double[(int) nbPairs];
+		invoke(pool, shipArray, new TileOperation<Void>() {
+			@Override
+			public Void computeTile(Ship[] ships, int fromRow, int toRow, int fromColumn, int toColumn) {
+				for (int i = fromRow; i < toRow; i++)
+					for (int j = Math.max(fromColumn, i + 1); j < toColumn; j++)
+						times[getIndex(i, j, ships.length)] = getTime(ships[i], ships[j]);
+				return null;
+			}
+
+			@Override
+			public Void combine(Void result1, Void result2) {
+				return null;
+			}
+		});
+		return times;
+	}
+
+	/**
+	 * Return the smallest time to collision among all pairs of different, non-overlapping ships in the given list.
+	 *
+	 * @param  ships
+	 * 			The ships to examine.
+	 * @param  pool
+	 * 			The pool on which to compute the times.
+	 * @return The minimum of Ship.getTimeToCollision over all pairs of different ships in the list that do not overlap,
+	 * 			or Double.POSITIVE_INFINITY if there are no such pairs.
+	 * @throws IllegalArgumentException
+	 * 			The list contains a non-effective ship.
+	 * 			| ships.contains(null)
+	 */
+	public static double getMinimalTime(List<Ship> ships, ForkJoinPool pool) throws IllegalArgumentException {
+		return invoke(pool, toArray(ships), new TileOperation<Double>() {
+			@Override
+			public Double computeTile(Ship[] ships, int fromRow, int toRow, int fromColumn, int toColumn) {
+				double minimum = Double.POSITIVE_INFINITY;
+				for (int i = fromRow; i < toRow; i++)
+					for (int j = Math.max(fromColumn, i + 1); j < toColumn; j++) {
+						double time = getTime(ships[i], ships[j]);
+						if (time < minimum)
+							minimum = time;
+					}
+				return minimum;
+			}
+
+			@Override
+			public Double combine(Double result1, Double result2) {
+				return Math.min(result1, result2);
+			}
+		});
+	}
+
+	/**
+	 * Return the smallest time to collision among all pairs of different, non-overlapping ships in the given list,
+	 * using the common pool.
+	 *
+	 * @effect | getMinimalTime(ships, ForkJoinPool.commonPool())
+	 */
+	public static double getMinimalTime(List<Ship> ships) throws IllegalArgumentException {
+		return getMinimalTime(ships, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Return the given number of earliest collisions among the pairs of different ships in the given list.
+	 *
+	 * Only the best candidates of each tile are kept in memory, never the full matrix.
+	 *
+	 * @param  ships
+	 * 			The ships to examine.
+	 * @param  nbCollisions
+	 * 			The maximal number of collisions to return.
+	 * @param  pool
+	 * 			The pool on which to compute the times.
+	 * @return A list of at most nbCollisions collisions between pairs of different, non-overlapping ships of the list,
+	 * 			sorted by increasing time. No pair of ships that is left out collides earlier than the last collision
+	 * 			in the list.
+	 * @throws IllegalArgumentException
+	 * 			The list contains a non-effective ship, or the given number of collisions is negative.
+	 * 			| ships.contains(null) || (nbCollisions < 0)
+	 */
+	public static List<Collision> getEarliestCollisions(List<Ship> ships, final int nbCollisions, ForkJoinPool pool)
+			throws IllegalArgumentException {
+		if (nbCollisions < 0)
+			throw new IllegalArgumentException();
+		Ship[] shipArray = toArray(ships);
+		List<Candidate> candidates = invoke(pool, shipArray, new TileOperation<List<Candidate>>() {
+			@Override
+			public List<Candidate> computeTile(Ship[] ships, int fromRow, int toRow, int fromColumn, int toColumn) {
+				PriorityQueue<Candidate> best = new PriorityQueue<Candidate>(Collections.reverseOrder(CANDIDATE_ORDER));
+				for (int i = fromRow; i < toRow; i++)
+					for (int j = Math.max(fromColumn, i + 1); j < toColumn; j++) {
+						double time = getTime(ships[i], ships[j]);
+						if (! (time < Double.POSITIVE_INFINITY))
+							continue;
+						if (best.size() < nbCollisions)
+							best.add(new Candidate(i, j, time));
+						else if ((nbCollisions > 0) && (time < best.peek().time)) {
+							best.poll();
+							best.add(new Candidate(i, j, time));
+						}
+					}
+				return new ArrayList<Candidate>(best);
+			}
+
+			@Override
+			public List<Candidate> combine(List<Candidate> result1, List<Candidate> result2) {
+				List<Candidate> merged = new ArrayList<Candidate>(result1);
+				merged.addAll(result2);
+				Collections.sort(merged, CANDIDATE_ORDER);
+				return (merged.size() > nbCollisions) ? new ArrayList<Candidate>(merged.subList(0, nbCollisions)) : merged;
+			}
+		});
+		Collections.sort(candidates, CANDIDATE_ORDER);
+		List<Collision> result = new ArrayList<Collision>(candidates.size());
+		for (Candidate candidate : candidates) {
+			Ship ship1 = shipArray[candidate.i];
+			Ship ship2 = shipArray[candidate.j];
+			result.add(new Collision(ship1, ship2, candidate.time, Ship.getCollisionPositionOrNull(ship1, ship2)));
+		}
+		return result;
+	}
+
+	/**
+	 * Return the given number of earliest collisions among the pairs of different ships in the given list,
+	 * using the common pool.
+	 *
+	 * @effect | getEarliestCollisions(ships, nbCollisions, ForkJoinPool.commonPool())
+	 */
+	public static List<Collision> getEarliestCollisions(List<Ship> ships, int nbCollisions) throws IllegalArgumentException {
+		return getEarliestCollisions(ships, nbCollisions, ForkJoinPool.commonPool());
+	}
+
+
+	/**
+	 * Return the time to collision of the given ships, or OVERLAP if they overlap.
+	 */
+	private static double getTime(Ship ship1, Ship ship2) {
+		return Ship.getTimeToCollisionOrNaN(ship1, ship2);
+	}
+
+	/**
+	 * Return the given list of ships as an array, checking that all of them are effective.
+	 */
+	private static Ship[] toArray(List<Ship> ships) throws IllegalArgumentException {
+		Ship[] result = ships.toArray(new Ship[ships.size()]);
+		for (Ship ship : result)
+			if (ship == null)
+				throw new IllegalArgumentException();
+		return result;
+	}
+
+	/**
+	 * Return the number of tiles along one side of the matrix of the given number of ships.
+	 */
+	private static int getNbTileRows(int nbShips) {
+		return (nbShips + TILE_SIZE - 1) / TILE_SIZE;
+	}
+
+	/**
+	 * Return the number of tiles covering the upper triangle of the matrix of the given number of ships.
+	 */
+	private static int getNbTiles(int nbShips) {
+		int nbTileRows = getNbTileRows(nbShips);
+		return nbTileRows * (nbTileRows + 1) / 2;
+	}
+
+	/**
+	 * Return the row and column of each tile covering the upper triangle of the matrix of the given number
+	 * of ships, with the row of tile t at index 2 * t and its column at index 2 * t + 1.
+	 */
+	private static int[] getTiles(int nbShips) {
+		int nbTileRows = getNbTileRows(nbShips);
+		int[] tiles = new int[2 * getNbTiles(nbShips)];
+		int tile = 0;
+		for (int row = 0; row < nbTileRows; row++)
+			for (int column = row; column < nbTileRows; column++) {
+				tiles[2 * tile] = row;
+				tiles[2 * tile + 1] = column;
+				tile++;
+			}
+		return tiles;
+	}
+
+
+	/**
+	 * Apply the given operation to all tiles covering the upper triangle of the matrix of the given ships,
+	 * on the given pool, and return the combination of the results of all tiles.
+	 */
+	private static <R> R invoke(ForkJoinPool pool, Ship[] ships, TileOperation<R> operation) {
+		return pool.invoke(new TileTask<R>(ships, getTiles(ships.length), 0, getNbTiles(ships.length), operation));
+	}
+
+	/**
+	 * An interface of operations computing a result for a tile of the matrix.
+	 */
+	private static interface TileOperation<R> {
+
+		/**
+		 * Compute the result of the pairs (i, j) of the given ships with i < j, i in [fromRow, toRow)
+		 * and j in [fromColumn, toColumn).
+		 */
+		R computeTile(Ship[] ships, int fromRow, int toRow, int fromColumn, int toColumn);
+
+		/**
+		 * Combine the results of two ranges of tiles.
+		 */
+		R combine(R result1, R result2);
+	}
+
+	/**
+	 * A class of tasks applying an operation to a range of tiles, splitting the range in halves
+	 * until a single tile is left.
+	 */
+	private static class TileTask<R> extends RecursiveTask<R> {
+
+		TileTask(Ship[] ships, int[] tiles, int fromTile, int toTile, TileOperation<R> operation) {
+			this.ships = ships;
+			this.tiles = tiles;
+			this.fromTile = fromTile;
+			this.toTile = toTile;
+			this.operation = operation;
+		}
+
+		private final Ship[] ships;
+
+		private final int[] tiles;
+
+		private final int fromTile, toTile;
+
+		private final TileOperation<R> operation;
+
+		@Override
+		protected R compute() {
+			if (toTile - fromTile <= 1) {
+				if (toTile == fromTile)
+					return operation.computeTile(ships, 0, 0, 0, 0);
+				int fromRow = tiles[2 * fromTile] * TILE_SIZE;
+				int fromColumn = tiles[2 * fromTile + 1] * TILE_SIZE;
+				return operation.computeTile(ships, fromRow, Math.min(fromRow + TILE_SIZE, ships.length),
+						fromColumn, Math.min(fromColumn + TILE_SIZE, ships.length));
+			}
+			int middle = (fromTile + toTile) >>> 1;
+			TileTask<R> left = new TileTask<R>(ships, tiles, fromTile, middle, operation);
+			TileTask<R> right = new TileTask<R>(ships, tiles, middle, toTile, operation);
+			left.fork();
+			R rightResult = right.compute();
+			return operation.combine(left.join(), rightResult);
+		}
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A class of candidate collisions between the ships at two indices.
+	 */
+	private static class Candidate {
+
+		Candidate(int i, int j, double time) {
+			this.i = i;
+			this.j = j;
+			this.time = time;
+		}
+
+		final int i, j;
+
+		final double time;
+	}
+
+	/**
+	 * Constant ordering candidates by increasing time, then by increasing indices.
+	 */
+	private static final Comparator<Candidate> CANDIDATE_ORDER = new Comparator<Candidate>() {
+		@Override
+		public int compare(Candidate candidate1, Candidate candidate2) {
+			int result = Double.compare(candidate1.time, candidate2.time);
+			if (result == 0)
+				result = Integer.compare(candidate1.i, candidate2.i);
+			if (result == 0)
+				result = Integer.compare(candidate1.j, candidate2.j);
+			return result;
+		}
+	};
+}
@@ -0,0 +1,95 @@
+package asteroids.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * A class of flight recorder events describing the prediction of a collision between two ships.
+ *
+ * Ships are identified by their identity hash code. Predictions happen far too often to record each of them,
+ * so by default only predictions that take longer than the threshold of this event are recorded; the threshold
+ * can be lowered in the settings of a recording.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@Name("asteroids.CollisionPrediction")
+@Label("Collision Prediction")
+@Category("Asteroids")
+@Description("Prediction of the time or position of the collision between two ships")
+@Threshold("20 us")
+@StackTrace(false)
+final class CollisionPredictionEvent extends Event {
+
+	@Label("Position Requested")
+	@Description("Whether the position of the collision was predicted, and not only its time")
+	boolean positionRequested;
+
+	@Label("First Ship")
+	int ship1;
+
+	@Label("Second Ship")
+	int ship2;
+
+	@Label("Time To Collision")
+	@Timespan(Timespan.SECONDS)
+	double time;
+
+	@Label("Overlapping")
+	boolean overlapping;
+
+	@Label("No Collision")
+	boolean noCollision;
+
+	/**
+	 * Fill in the outcome of the prediction of the collision between the given ships, and commit this event
+	 * if it must be recorded.
+	 *
+	 * @param  ship1
+	 * 			The first ship.
+	 * @param  ship2
+	 * 			The second ship.
+	 * @param  time
+	 * 			The predicted time to collision, which is NaN if the ships overlap.
+	 */
+	void commit(Ship ship1, Ship ship2, double time) {
+		end();
+		if (! shouldCommit())
+			return;
+		this.ship1 = System.identityHashCode(ship1);
+		this.ship2 = System.identityHashCode(ship2);
+		this.time = time;
+		this.overlapping = Double.isNaN(time);
+		this.noCollision = (time == Double.POSITIVE_INFINITY);
+		commit();
+	}
+
+	/**
+	 * Fill in the outcome of the prediction of the given collision between the given ships, and commit this event
+	 * if it must be recorded.
+	 *
+	 * @param  ship1
+	 * 			The first ship.
+	 * @param  ship2
+	 * 			The second ship.
+	 * @param  collision
+	 * 			The predicted collision, which is null if the ships overlap or never collide.
+	 */
+	void commit(Ship ship1, Ship ship2, Collision collision) {
+		double time;
+		if (collision != null)
+			time = collision.getTime();
+		else if (isEnabled())
+			// Only distinguished when recording, to keep the common path free of a second overlap test.
+			time = Ship.overlap(ship1, ship2) ? Double.NaN : Double.POSITIVE_INFINITY;
+		else
+			time = Double.POSITIVE_INFINITY;
+		commit(ship1, ship2, time);
+	}
+}
@@ -0,0 +1,282 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+
+/**
+ * A class of queues predicting the earliest collision between the ships of a world.
+ *
+ * The time to collision of each pair of ships is computed once and kept in a priority queue.
+ * Whenever a query is made, the queue checks which ships have been modified since it last saw them
+ * (because they were thrust, moved or turned outside of this queue, or added to the world), and only
+ * recomputes the pairs involving those ships. Entries of older pairs are discarded lazily.
+ *
+ * Ships that are moved through {@link #advance(double)} keep their entries, since all ships then
+ * move along the trajectories the queue already knows about.
+ *
+ * @invar  The clock of each collision queue is non-negative.
+ *       | getClock() >= 0
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class CollisionQueue {
+
+	/**
+	 * Initialize this new collision queue for the given world.
+	 *
+	 * @param  world
+	 * 			The world whose collisions are to be predicted.
+	 * @post   The world of this new collision queue is the given world.
+	 * 			| new.getWorld() == world
+	 * @post   The clock of this new collision queue is zero.
+	 * 			| new.getClock() == 0
+	 * @throws IllegalArgumentException
+	 * 			The given world is not effective.
+	 * 			| world == null
+	 */
+	public CollisionQueue(World world) throws IllegalArgumentException {
+		if (world == null)
+			throw new IllegalArgumentException();
+		this.world = world;
+	}
+
+
+	/**
+	 * Return the world whose collisions are predicted by this queue.
+	 */
+	@Basic @Immutable
+	public World getWorld() {
+		return this.world;
+	}
+
+	/**
+	 * Variable registering the world whose collisions are predicted by this queue.
+	 */
+	private final World world;
+
+
+	/**
+	 * Return the total time during which the ships have been moved by this queue.
+	 */
+	@Basic
+	public double getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Variable registering the total time during which the ships have been moved by this queue.
+	 */
+	private double clock = 0;
+
+
+	/**
+	 * Return the earliest collision between two ships of the world of this queue.
+	 *
+	 * @return null if no two ships of the world will ever collide.
+	 * @return Otherwise, the collision with the smallest time among all pairs of different ships of the world
+	 * 			that do not overlap, together with the position where both ships touch.
+	 * 			| for each ship1, ship2 in getWorld().getShips():
+	 * 			|	if ((ship1 != ship2) && ! Ship.overlap(ship1, ship2))
+	 * 			|		then result.getTime() <= Ship.getTimeToCollision(ship1, ship2)
+	 */
+	public Collision getNextCollision() {
+		Entry entry = peekEntry();
+		if (entry == null)
+			return null;
+		return new Collision(entry.ship1, entry.ship2, Math.max(entry.time - getClock(), 0),
+				Ship.getCollisionPositionOrNull(entry.ship1, entry.ship2));
+	}
+
+	/**
+	 * Remove the earliest collision between two ships of the world of this queue, so that it is no longer
+	 * reported, even if neither of both ships is modified afterwards.
+	 *
+	 * @effect If there is a next collision, the queue no longer reports it, until one of its ships is modified.
+	 */
+	public void removeNextCollision() {
+		if (peekEntry() != null)
+			entries.poll();
+	}
+
+	/**
+	 * Move all the ships of the world of this queue during the given duration.
+	 *
+	 * @param  duration
+	 * 			The duration during which the ships must be moved.
+	 * @effect Each ship of the world is moved during the given duration.
+	 * 			| for each ship in getWorld().getShips():
+	 * 			|	ship.move(duration)
+	 * @post   The clock of this queue is advanced by the given duration.
+	 * 			| new.getClock() == getClock() + duration
+	 * @throws IllegalArgumentException
+	 * 			The given duration is strictly less than 0.
+	 * 			| duration < 0
+	 */
+	public void advance(double duration) throws IllegalArgumentException, IllegalCoordinateException {
+		if (duration < 0)
+			throw new IllegalArgumentException();
+		for (Ship ship : getWorld().getShips()) {
+			ShipRecord record = records.get(ship);
+			boolean upToDate = (record != null) && (record.nbModifications == ship.getNbModifications());
+			ship.move(duration);
+			if (upToDate)
+				record.nbModifications = ship.getNbModifications();
+		}
+		this.clock += duration;
+	}
+
+
+	/**
+	 * Return the valid entry with the earliest collision time, after bringing this queue up to date.
+	 * Entries that have become invalid on the way are removed.
+	 */
+	private Entry peekEntry() {
+		synchronize();
+		Entry entry = entries.peek();
+		while ((entry != null) && (! isValid(entry))) {
+			entries.poll();
+			entry = entries.peek();
+		}
+		return entry;
+	}
+
+	/**
+	 * Bring this queue up to date with the current ships of its world, recomputing the entries
+	 * of all pairs that involve a ship that was added or modified since the last synchronization.
+	 */
+	private void synchronize() {
+		Set<Ship> ships = getWorld().getShips();
+		records.keySet().retainAll(ships);
+		List<Ship> modifiedShips = new ArrayList<Ship>();
+		for (Ship ship : ships) {
+			ShipRecord record = records.get(ship);
+			if (record == null) {
+				record = new ShipRecord();
+				records.put(ship, record);
+			}
+			else if (record.nbModifications == ship.getNbModifications())
+				continue;
+			record.nbModifications = ship.getNbModifications();
+			record.epoch = ++lastEpoch;
+			record.pending = true;
+			modifiedShips.add(ship);
+		}
+		for (Ship modifiedShip : modifiedShips) {
+			records.get(modifiedShip).pending = false;
+			for (Ship ship : ships)
+				// Pairs of two modified ships are computed when the second of both is handled.
+				if ((ship != modifiedShip) && (! records.get(ship).pending))
+					schedule(modifiedShip, ship);
+		}
+		if (entries.size() > 2 * sizeAfterPurge + ships.size())
+			purge();
+	}
+
+	/**
+	 * Compute the time to collision of the given ships and add it to this queue, if they will ever collide.
+	 */
+	private void schedule(Ship ship1, Ship ship2) {
+		// Overlapping ships yield NaN, and have no collision to predict either.
+		double time = Ship.getTimeToCollisionOrNaN(ship1, ship2);
+		if (time < Double.POSITIVE_INFINITY)
+			entries.add(new Entry(ship1, records.get(ship1).epoch, ship2, records.get(ship2).epoch, getClock() + time));
+	}
+
+	/**
+	 * Check whether the given entry still describes a future collision between ships of the world
+	 * that have not been modified since it was computed.
+	 */
+	private boolean isValid(Entry entry) {
+		ShipRecord record1 = records.get(entry.ship1);
+		ShipRecord record2 = records.get(entry.ship2);
+		return (record1 != null) && (record1.epoch == entry.epoch1) && (record2 != null) && (record2.epoch == entry.epoch2)
+				&& (entry.time >= getClock());
+	}
+
+	/**
+	 * Remove all invalid entries from this queue.
+	 */
+	private void purge() {
+		Iterator<Entry> iterator = entries.iterator();
+		while (iterator.hasNext())
+			if (! isValid(iterator.next()))
+				iterator.remove();
+		sizeAfterPurge = entries.size();
+	}
+
+	/**
+	 * Variable referencing the priority queue of predicted collisions, ordered by time.
+	 */
+	private final PriorityQueue<Entry> entries = new PriorityQueue<Entry>();
+
+	/**
+	 * Variable registering the number of entries right after the last purge.
+	 */
+	private int sizeAfterPurge = 0;
+
+	/**
+	 * Variable referencing the record kept by this queue for each of the ships it knows about.
+	 */
+	private final Map<Ship, ShipRecord> records = new HashMap<Ship, ShipRecord>();
+
+	/**
+	 * Variable registering the last epoch handed out to a ship whose entries were recomputed.
+	 */
+	private long lastEpoch = 0;
+
+
+	/**
+	 * A class of records registering what a collision queue knows about a ship.
+	 */
+	private static class ShipRecord {
+
+		/**
+		 * The number of modifications of the ship when this queue last saw it.
+		 */
+		private long nbModifications;
+
+		/**
+		 * The epoch in which the entries of the ship were last recomputed.
+		 */
+		private long epoch = 0;
+
+		/**
+		 * Whether the entries of the ship still have to be recomputed during the current synchronization.
+		 */
+		private boolean pending = false;
+	}
+
+	/**
+	 * A class of entries in a collision queue, registering the absolute time of a predicted collision.
+	 */
+	private static class Entry implements Comparable<Entry> {
+
+		private Entry(Ship ship1, long epoch1, Ship ship2, long epoch2, double time) {
+			this.ship1 = ship1;
+			this.epoch1 = epoch1;
+			this.ship2 = ship2;
+			this.epoch2 = epoch2;
+			this.time = time;
+		}
+
+		private final Ship ship1, ship2;
+
+		private final long epoch1, epoch2;
+
+		private final double time;
+
+		@Override
+		public int compareTo(Entry other) {
+			return Double.compare(this.time, other.time);
+		}
+	}
+}
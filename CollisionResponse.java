@@ -0,0 +1,91 @@
+package asteroids.model;
+
+/**
+ * An interface for the ways in which a collision between two ships can be resolved.
+ *
+ * A response may change the velocity of the colliding ships, and may add ships to or remove ships
+ * from the world. A response is invoked at the exact moment both ships touch.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public interface CollisionResponse {
+
+	/**
+	 * Resolve the given collision in the given world.
+	 *
+	 * @param  world
+	 * 			The world in which the collision happens.
+	 * @param  collision
+	 * 			The collision to resolve. Both ships of the collision touch each other.
+	 */
+	void resolve(World world, Collision collision);
+
+
+	/**
+	 * A response in which both ships bounce off each other elastically, with a mass proportional to the cube of their radius.
+	 *
+	 * The velocities of both ships only change along the line through their centres, such that their total
+	 * momentum and kinetic energy are preserved, as long as neither ship exceeds its speed limit.
+	 */
+	CollisionResponse BOUNCE = new CollisionResponse() {
+		@Override
+		public void resolve(World world, Collision collision) {
+			Ship ship1 = collision.getShip1();
+			Ship ship2 = collision.getShip2();
+			double dx = ship2.getxCoordinate() - ship1.getxCoordinate();
+			double dy = ship2.getyCoordinate() - ship1.getyCoordinate();
+			double distance = Math.hypot(dx, dy);
+			if (distance == 0)
+				return;
+			double nx = dx / distance;
+			double ny = dy / distance;
+			double dvDotn = (ship2.getxVelocity() - ship1.getxVelocity()) * nx + (ship2.getyVelocity() - ship1.getyVelocity()) * ny;
+			// Ships that already move apart have nothing left to resolve.
+			if (dvDotn >= 0)
+				return;
+			double mass1 = Math.pow(ship1.getRadius(), 3);
+			double mass2 = Math.pow(ship2.getRadius(), 3);
+			double impulse = 2 * dvDotn / (mass1 + mass2);
+			ship1.setVelocity(ship1.getxVelocity() + impulse * mass2 * nx, ship1.getyVelocity() + impulse * mass2 * ny);
+			ship2.setVelocity(ship2.getxVelocity() - impulse * mass1 * nx, ship2.getyVelocity() - impulse * mass1 * ny);
+		}
+	};
+
+	/**
+	 * A response in which both ships are replaced by a single ship, with a mass proportional to the cube of their radius.
+	 *
+	 * The new ship has the sum of the masses of both ships, is centred at their centre of mass, moves with their
+	 * total momentum (within its speed limit) and has the orientation of the largest ship.
+	 */
+	CollisionResponse MERGE = new CollisionResponse() {
+		@Override
+		public void resolve(World world, Collision collision) {
+			Ship ship1 = collision.getShip1();
+			Ship ship2 = collision.getShip2();
+			double mass1 = Math.pow(ship1.getRadius(), 3);
+			double mass2 = Math.pow(ship2.getRadius(), 3);
+			double mass = mass1 + mass2;
+			Ship merged = new Ship((mass1 * ship1.getxCoordinate() + mass2 * ship2.getxCoordinate()) / mass,
+					(mass1 * ship1.getyCoordinate() + mass2 * ship2.getyCoordinate()) / mass,
+					(mass1 * ship1.getxVelocity() + mass2 * ship2.getxVelocity()) / mass,
+					(mass1 * ship1.getyVelocity() + mass2 * ship2.getyVelocity()) / mass,
+					Math.cbrt(mass),
+					(mass1 >= mass2) ? ship1.getOrientation() : ship2.getOrientation());
+			world.removeShip(ship1);
+			world.removeShip(ship2);
+			world.addShip(merged);
+		}
+	};
+
+	/**
+	 * A response in which both ships are removed from the world.
+	 */
+	CollisionResponse DESTROY = new CollisionResponse() {
+		@Override
+		public void resolve(World world, Collision collision) {
+			world.removeShip(collision.getShip1());
+			world.removeShip(collision.getShip2());
+		}
+	};
+}
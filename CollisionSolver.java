@@ -0,0 +1,174 @@
+package asteroids.model;
+
+/**
+ * An enumeration of solvers for the time after which two circles moving at constant velocities touch.
+ *
+ * Each solver is given the differences dx, dy between the centres of both circles, the differences dvx, dvy
+ * between their velocities and the sum of their radii. The circles touch at the smallest root t of
+ *     a*t^2 + 2*b*t + c = 0,  with  a = dvx^2 + dvy^2,  b = dvx*dx + dvy*dy  and  c = dx^2 + dy^2 - sumOfRadii^2.
+ *
+ * All solvers except LEGACY work on these squared magnitudes directly and compute that root as
+ * c / (-b + sqrt(b^2 - a*c)). Unlike the textbook form (-b - sqrt(b^2 - a*c)) / a, this form never subtracts
+ * two nearly equal quantities when a*c is small compared to b^2, that is, for ships that nearly touch.
+ *
+ * Accuracy at large coordinates: the differences dx and dy are rounded to half an ulp of the largest coordinate
+ * involved, so in double precision the predicted time is off by up to about Math.ulp(coordinate) / speed
+ * seconds, for instance about 10^-9 seconds at coordinates of 10^12 and a relative speed of 10^5. The squared
+ * magnitudes overflow once the distance between the ships exceeds about 10^154, and such ships are reported
+ * never to collide. The FLOAT solver rounds to about seven significant digits instead, and its squares
+ * overflow at distances beyond about 10^19.
+ *
+ * The solver used by the ships is initially STABLE, or the solver named by the system property "asteroids.solver".
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public enum CollisionSolver {
+
+	/**
+	 * The original solver, which squares the results of Math.hypot with Math.pow and uses the textbook form
+	 * of the smallest root. It is only kept as a reference for benchmarks and accuracy comparisons.
+	 */
+	LEGACY {
+		@Override
+		public double solve(double dx, double dy, double dvx, double dvy, double sumOfRadii) {
+			double dvDotdr = dvx * dx + dvy * dy;
+			// The negated comparisons also reject NaN, which only shows up when an intermediate result overflows.
+			if (! (dvDotdr < 0))
+				return Double.POSITIVE_INFINITY;
+			double discriminant = Math.pow(dvDotdr, 2) - Math.pow(Math.hypot(dvx, dvy), 2) *
+								(Math.pow(Math.hypot(dx, dy),  2) - Math.pow(sumOfRadii, 2));
+			if (! (discriminant > 0))
+				return Double.POSITIVE_INFINITY;
+			return - (dvDotdr + Math.sqrt(discriminant)) / Math.pow(Math.hypot(dvx, dvy), 2);
+		}
+	},
+
+	/**
+	 * A solver in double precision on squared magnitudes, using the stable form of the smallest root.
+	 */
+	STABLE {
+		@Override
+		public double solve(double dx, double dy, double dvx, double dvy, double sumOfRadii) {
+			double b = dvx * dx + dvy * dy;
+			if (! (b < 0))
+				return Double.POSITIVE_INFINITY;
+			double a = dvx * dvx + dvy * dvy;
+			double c = dx * dx + dy * dy - sumOfRadii * sumOfRadii;
+			return getSmallestRoot(b, c, b * b - a * c);
+		}
+	},
+
+	/**
+	 * A solver like STABLE that computes each sum of products with fused multiply-adds, and the discriminant
+	 * with Kahan's compensated algorithm, so that it stays accurate when b^2 and a*c nearly cancel, that is,
+	 * for ships that barely graze each other.
+	 */
+	FMA {
+		@Override
+		public double solve(double dx, double dy, double dvx, double dvy, double sumOfRadii) {
+			double b = Math.fma(dvx, dx, dvy * dy);
+			if (! (b < 0))
+				return Double.POSITIVE_INFINITY;
+			double a = Math.fma(dvx, dvx, dvy * dvy);
+			double c = Math.fma(dx, dx, Math.fma(dy, dy, - sumOfRadii * sumOfRadii));
+			double ac = a * c;
+			double discriminant = Math.fma(b, b, - ac) + Math.fma(- a, c, ac);
+			return getSmallestRoot(b, c, discriminant);
+		}
+	},
+
+	/**
+	 * A solver like STABLE in single precision, which is only suited for screening pairs of ships
+	 * near the origin, given its limited accuracy and range.
+	 */
+	FLOAT {
+		@Override
+		public double solve(double dx, double dy, double dvx, double dvy, double sumOfRadii) {
+			float fdx = (float) dx, fdy = (float) dy, fdvx = (float) dvx, fdvy = (float) dvy;
+			float radii = (float) sumOfRadii;
+			float b = fdvx * fdx + fdvy * fdy;
+			if (! (b < 0))
+				return Double.POSITIVE_INFINITY;
+			float a = fdvx * fdvx + fdvy * fdvy;
+			float c = fdx * fdx + fdy * fdy - radii * radii;
+			float discriminant = b * b - a * c;
+			if (! (discriminant > 0))
+				return Double.POSITIVE_INFINITY;
+			if (! (c > 0))
+				return 0;
+			return c / (- b + (float) Math.sqrt(discriminant));
+		}
+	};
+
+	/**
+	 * Return the time after which two circles touch, given the differences between their centres and between
+	 * their velocities and the sum of their radii.
+	 *
+	 * @param  dx
+	 * 			The difference between the xCoordinates of the centres of both circles.
+	 * @param  dy
+	 * 			The difference between the yCoordinates of the centres of both circles.
+	 * @param  dvx
+	 * 			The difference between the xComponents of the velocities of both circles, in the same order.
+	 * @param  dvy
+	 * 			The difference between the yComponents of the velocities of both circles, in the same order.
+	 * @param  sumOfRadii
+	 * 			The sum of the radii of both circles.
+	 * @return Double.POSITIVE_INFINITY if the circles never touch, and otherwise the non-negative time after
+	 * 			which they touch. The result is unspecified if the circles overlap.
+	 */
+	public abstract double solve(double dx, double dy, double dvx, double dvy, double sumOfRadii);
+
+	/**
+	 * Return the smallest root of a*t^2 + 2*b*t + c, given b, c and the discriminant b^2 - a*c, and given that b is negative,
+	 * or Double.POSITIVE_INFINITY if there is no real root or the discriminant is not a number.
+	 * Circles that already touch because of rounding touch after 0 seconds.
+	 */
+	private static double getSmallestRoot(double b, double c, double discriminant) {
+		if (! (discriminant > 0))
+			return Double.POSITIVE_INFINITY;
+		if (! (c > 0))
+			return 0;
+		return c / (- b + Math.sqrt(discriminant));
+	}
+
+
+	/**
+	 * Return the solver used by the ships.
+	 */
+	public static CollisionSolver getSelected() {
+		return selected;
+	}
+
+	/**
+	 * Select the solver to be used by the ships.
+	 *
+	 * @param  solver
+	 * 			The solver to be used.
+	 * @post   | getSelected() == solver
+	 * @throws IllegalArgumentException
+	 * 			| solver == null
+	 */
+	public static void setSelected(CollisionSolver solver) throws IllegalArgumentException {
+		if (solver == null)
+			throw new IllegalArgumentException();
+		selected = solver;
+	}
+
+	/**
+	 * Return the solver named by the system property "asteroids.solver", or STABLE if there is no such solver.
+	 */
+	private static CollisionSolver getInitialSolver() {
+		String name = System.getProperty("asteroids.solver");
+		for (CollisionSolver solver : values())
+			if (solver.name().equalsIgnoreCase(name))
+				return solver;
+		return STABLE;
+	}
+
+	/**
+	 * Variable referencing the solver used by the ships.
+	 */
+	private static volatile CollisionSolver selected = getInitialSolver();
+}
@@ -0,0 +1,93 @@
+package asteroids.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asteroids.model.CollisionSolver;
+import asteroids.model.Ship;
+
+/**
+ * Benchmarks comparing the solvers for the time to collision, on the pairs of consecutive ships of a randomized fleet.
+ *
+ * The solvers are invoked directly on precomputed differences, so that only the arithmetic of each solver is measured.
+ * The benchmark through the ships measures the same solver as part of getTimeToCollisionOrNaN.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CollisionSolverBenchmark {
+
+	/**
+	 * The solver under test.
+	 */
+	@Param({"LEGACY", "STABLE", "FMA", "FLOAT"})
+	public CollisionSolver solver;
+
+	/**
+	 * The number of pairs of ships.
+	 */
+	private static final int NB_PAIRS = 1024;
+
+	/**
+	 * The fleet of ships.
+	 */
+	private Ship[] fleet;
+
+	/**
+	 * The differences between the centres and velocities of each pair of consecutive ships, and their sums of radii.
+	 */
+	private final double[] dx = new double[NB_PAIRS], dy = new double[NB_PAIRS],
+			dvx = new double[NB_PAIRS], dvy = new double[NB_PAIRS], sumOfRadii = new double[NB_PAIRS];
+
+	/**
+	 * The index of the next pair to handle.
+	 */
+	private int cursor = 0;
+
+	/**
+	 * Create a randomized fleet, and select the solver under test for the ships.
+	 */
+	@Setup
+	public void setUp() {
+		fleet = ShipBenchmark.createFleet(NB_PAIRS + 1, 42);
+		for (int i = 0; i < NB_PAIRS; i++) {
+			dx[i] = fleet[i].getxCoordinate() - fleet[i + 1].getxCoordinate();
+			dy[i] = fleet[i].getyCoordinate() - fleet[i + 1].getyCoordinate();
+			dvx[i] = fleet[i].getxVelocity() - fleet[i + 1].getxVelocity();
+			dvy[i] = fleet[i].getyVelocity() - fleet[i + 1].getyVelocity();
+			sumOfRadii[i] = fleet[i].getRadius() + fleet[i + 1].getRadius();
+		}
+		CollisionSolver.setSelected(solver);
+	}
+
+	/**
+	 * Return the index of the next pair.
+	 */
+	private int nextPair() {
+		cursor = (cursor + 1) & (NB_PAIRS - 1);
+		return cursor;
+	}
+
+	@Benchmark
+	public double solve() {
+		int i = nextPair();
+		return solver.solve(dx[i], dy[i], dvx[i], dvy[i], sumOfRadii[i]);
+	}
+
+	@Benchmark
+	public double getTimeToCollisionOrNaN() {
+		int i = nextPair();
+		return Ship.getTimeToCollisionOrNaN(fleet[i], fleet[i + 1]);
+	}
+}
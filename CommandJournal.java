@@ -0,0 +1,330 @@
+package asteroids.facade;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import asteroids.model.Ship;
+import asteroids.util.ModelException;
+
+/**
+ * A class of append-only journals recording the commands made through a facade, in a binary format.
+ *
+ * A journal file starts with the int MAGIC and the int VERSION. Each entry then consists of a one-byte
+ * opcode, the number of nanoseconds since the journal was opened as a long, and the number of the ship
+ * as an int, followed by the six properties of a new ship for CREATE_SHIP, or by the single argument of
+ * the command for the other opcodes. Ships are numbered from 0 in the order in which they were created.
+ * All values are little-endian.
+ *
+ * Entries are collected in a buffer that is written to the file whenever it is full, and the file is
+ * only forced to the storage device once every getEntriesPerSync() entries, and when the journal is
+ * synchronized or closed. Entries recorded since the last synchronization may be lost in a crash.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class CommandJournal implements Closeable {
+
+	/**
+	 * Constant registering the first four bytes of each journal file.
+	 */
+	public static final int MAGIC = 0x4153544a;
+
+	/**
+	 * Constant registering the version of the journal format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Constants registering the opcodes of the commands in a journal.
+	 */
+	public static final byte CREATE_SHIP = 1, MOVE = 2, THRUST = 3, TURN = 4;
+
+	/**
+	 * Constant registering the number of bytes of the buffer of a journal.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+
+	/**
+	 * Initialize this new journal, writing to a new file at the given path.
+	 *
+	 * @param  path
+	 * 			The path of the journal file.
+	 * @param  entriesPerSync
+	 * 			The number of entries after which the file is forced to the storage device.
+	 * @post   | new.getEntriesPerSync() == entriesPerSync
+	 * @post   | new.getNbEntries() == 0
+	 * @throws IllegalArgumentException
+	 * 			The given number of entries is not strictly positive.
+	 * 			| entriesPerSync <= 0
+	 * @throws IOException
+	 * 			The file cannot be created.
+	 */
+	public CommandJournal(Path path, int entriesPerSync) throws IllegalArgumentException, IOException {
+		if (entriesPerSync <= 0)
+			throw new IllegalArgumentException();
+		this.entriesPerSync = entriesPerSync;
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		this.startTime = System.nanoTime();
+		buffer.putInt(MAGIC).putInt(VERSION);
+	}
+
+	/**
+	 * Initialize this new journal, writing to a new file at the given path, with a sync every 4096 entries.
+	 *
+	 * @effect | this(path, 4096)
+	 */
+	public CommandJournal(Path path) throws IOException {
+		this(path, 4096);
+	}
+
+
+	/**
+	 * Return the number of entries after which the file of this journal is forced to the storage device.
+	 */
+	public int getEntriesPerSync() {
+		return this.entriesPerSync;
+	}
+
+	/**
+	 * Variable registering the number of entries after which the file of this journal is forced to the storage device.
+	 */
+	private final int entriesPerSync;
+
+	/**
+	 * Return the number of entries recorded in this journal.
+	 */
+	public synchronized long getNbEntries() {
+		return this.nbEntries;
+	}
+
+	/**
+	 * Variable registering the number of entries recorded in this journal.
+	 */
+	private long nbEntries = 0;
+
+
+	/**
+	 * Record the creation of the given ship.
+	 *
+	 * @param  ship
+	 * 			The ship that was created.
+	 * @post   The given ship is known to this journal, with the number of ships created before as its number.
+	 * @throws IOException
+	 * 			The entry cannot be written. In that case, the given ship does not become known to this journal.
+	 */
+	public synchronized void recordCreateShip(Ship ship) throws IOException {
+		int number = shipNumbers.size();
+		startEntry(CREATE_SHIP, number, 48);
+		buffer.putDouble(ship.getxCoordinate()).putDouble(ship.getyCoordinate()).putDouble(ship.getxVelocity())
+				.putDouble(ship.getyVelocity()).putDouble(ship.getRadius()).putDouble(ship.getOrientation());
+		endEntry();
+		// Only registered once its entry is written, so that the numbers stay in step with the journal.
+		shipNumbers.put(ship, number);
+	}
+
+	/**
+	 * Record a command with the given opcode and argument for the given ship.
+	 *
+	 * @param  opcode
+	 * 			The opcode of the command, which is MOVE, THRUST or TURN.
+	 * @param  ship
+	 * 			The ship to which the command was applied.
+	 * @param  argument
+	 * 			The argument of the command.
+	 * @throws IllegalArgumentException
+	 * 			The given opcode is not the opcode of a command, or the given ship is not known to this journal.
+	 * 			| ((opcode != MOVE) && (opcode != THRUST) && (opcode != TURN)) || ! isKnownShip(ship)
+	 * @throws IOException
+	 * 			The entry cannot be written.
+	 */
+	public synchronized void recordCommand(byte opcode, Ship ship, double argument) throws IllegalArgumentException, IOException {
+		Integer number = shipNumbers.get(ship);
+		if ((number == null) || ((opcode != MOVE) && (opcode != THRUST) && (opcode != TURN)))
+			throw new IllegalArgumentException();
+		startEntry(opcode, number, 8);
+		buffer.putDouble(argument);
+		endEntry();
+	}
+
+	/**
+	 * Check whether the creation of the given ship was recorded in this journal.
+	 *
+	 * @param  ship
+	 * 			The ship to check.
+	 */
+	public synchronized boolean isKnownShip(Ship ship) {
+		return shipNumbers.containsKey(ship);
+	}
+
+	/**
+	 * Make room for an entry with the given opcode, ship number and number of bytes of arguments,
+	 * and write its opcode, time and ship number.
+	 */
+	private void startEntry(byte opcode, int number, int argumentSize) throws IOException {
+		if (! channel.isOpen())
+			throw new IOException("Journal closed");
+		if (buffer.remaining() < 13 + argumentSize)
+			flush();
+		buffer.put(opcode).putLong(System.nanoTime() - startTime).putInt(number);
+	}
+
+	/**
+	 * Count the entry that was just written, and force the file to the storage device if it is time to.
+	 */
+	private void endEntry() throws IOException {
+		nbEntries++;
+		if (++nbEntriesSinceSync >= entriesPerSync)
+			sync();
+	}
+
+	/**
+	 * Write all buffered entries to the file of this journal.
+	 */
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * Write all buffered entries to the file of this journal and force it to the storage device.
+	 *
+	 * @throws IOException
+	 * 			The entries cannot be written.
+	 */
+	public synchronized void sync() throws IOException {
+		flush();
+		channel.force(false);
+		nbEntriesSinceSync = 0;
+	}
+
+	/**
+	 * Synchronize and close this journal. Closing a closed journal has no effect.
+	 *
+	 * @throws IOException
+	 * 			The entries cannot be written.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (! channel.isOpen())
+			return;
+		try {
+			sync();
+		}
+		finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Variable referencing the channel to the file of this journal.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Variable referencing the buffer collecting the entries of this journal before they are written.
+	 */
+	private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+	/**
+	 * Variable registering the number of entries since the file of this journal was last forced.
+	 */
+	private int nbEntriesSinceSync = 0;
+
+	/**
+	 * Variable registering the value of System.nanoTime() when this journal was opened.
+	 */
+	private final long startTime;
+
+	/**
+	 * Variable referencing the number of each ship whose creation was recorded in this journal.
+	 */
+	private final Map<Ship, Integer> shipNumbers = new IdentityHashMap<Ship, Integer>();
+
+
+	/**
+	 * Apply all commands recorded in the journal file at the given path to the given facade, as fast as possible.
+	 *
+	 * @param  path
+	 * 			The path of the journal file.
+	 * @param  facade
+	 * 			The facade through which the commands must be applied.
+	 * @return The ships created by the replayed commands, with the number of each ship in the journal as its index.
+	 * @throws IOException
+	 * 			The file cannot be read, is not a journal file of the current version, or is corrupt.
+	 * @throws ModelException
+	 * 			One of the commands fails.
+	 */
+	public static List<Ship> replay(Path path, Facade facade) throws IOException, ModelException {
+		List<Ship> ships = new ArrayList<Ship>();
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.flip();
+			if (! fill(channel, buffer, 8) || (buffer.getInt() != MAGIC) || (buffer.getInt() != VERSION))
+				throw new IOException("Not a journal file of version " + VERSION + ": " + path);
+			while (fill(channel, buffer, 1)) {
+				byte opcode = buffer.get();
+				int argumentSize = (opcode == CREATE_SHIP) ? 48 : 8;
+				if (! fill(channel, buffer, 12 + argumentSize))
+					throw new EOFException("Truncated journal file: " + path);
+				buffer.getLong();
+				int number = buffer.getInt();
+				if (opcode == CREATE_SHIP) {
+					if (number != ships.size())
+						throw new IOException("Corrupt journal file: " + path);
+					ships.add(facade.createShip(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+							buffer.getDouble(), buffer.getDouble(), buffer.getDouble()));
+					continue;
+				}
+				if ((number < 0) || (number >= ships.size()))
+					throw new IOException("Corrupt journal file: " + path);
+				Ship ship = ships.get(number);
+				double argument = buffer.getDouble();
+				if (opcode == MOVE)
+					facade.move(ship, argument);
+				else if (opcode == THRUST)
+					facade.thrust(ship, argument);
+				else if (opcode == TURN)
+					facade.turn(ship, argument);
+				else
+					throw new IOException("Corrupt journal file: " + path);
+			}
+		}
+		return ships;
+	}
+
+	/**
+	 * Make sure the given buffer has at least the given number of bytes remaining, reading from the given channel
+	 * if needed. Return false if the channel ends before any byte could be read for that purpose.
+	 */
+	private static boolean fill(FileChannel channel, ByteBuffer buffer, int nbBytes) throws IOException {
+		if (buffer.remaining() >= nbBytes)
+			return true;
+		buffer.compact();
+		boolean readAny = false;
+		while (buffer.position() < nbBytes) {
+			if (channel.read(buffer) < 0)
+				break;
+			readAny = true;
+		}
+		buffer.flip();
+		if (buffer.remaining() >= nbBytes)
+			return true;
+		if (readAny || buffer.hasRemaining())
+			throw new EOFException("Truncated journal file");
+		return false;
+	}
+}
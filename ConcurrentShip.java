@@ -0,0 +1,210 @@
+package asteroids.model;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+
+/**
+ * A class of ships that can safely be moved, thrust, turned and read by several threads at once.
+ *
+ * The position, velocity and orientation of a concurrent ship are kept together in a single immutable
+ * {@link ShipState}. Each change computes a new state from the current one and publishes it with a
+ * compare-and-set, retrying if another thread published a state in between. Readers never block and
+ * always see a complete state, so both coordinates of a position always belong together. Changes
+ * never get lost, and each change is applied to the state left by all changes published before it.
+ *
+ * @invar  The radius of each concurrent ship must be a valid radius for any ship.
+ *       | Ship.isValidRadius(getRadius())
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class ConcurrentShip {
+
+	/**
+	 * Initialize this new concurrent ship with the given properties.
+	 *
+	 * @param  xCoordinate
+	 * 			The xCoordinate of this new ship.
+	 * @param  yCoordinate
+	 * 			The yCoordinate of this new ship.
+	 * @param  xComponent
+	 * 			The xComponent of the velocity of this new ship.
+	 * @param  yComponent
+	 * 			The yComponent of the velocity of this new ship.
+	 * @param  radius
+	 * 			The radius of this new ship.
+	 * @param  orientation
+	 * 			The orientation of this new ship.
+	 * @pre    The given orientation is a valid orientation for any ship.
+	 * 			| Ship.isValidOrientation(orientation)
+	 * @post   | new.getState().equals(new ShipState(xCoordinate, yCoordinate, xComponent, yComponent, orientation))
+	 * @post   | new.getRadius() == radius
+	 * @throws IllegalCoordinateException
+	 * 			One of the given coordinates is not valid.
+	 * 			| ! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate)
+	 * @throws IllegalRadiusException
+	 * 			The given radius is not valid.
+	 * 			| ! Ship.isValidRadius(radius)
+	 */
+	public ConcurrentShip(double xCoordinate, double yCoordinate, double xComponent, double yComponent,
+							double radius, double orientation) throws IllegalCoordinateException, IllegalRadiusException {
+		if (! Ship.isValidRadius(radius))
+			throw IllegalRadiusException.getInstance();
+		this.radius = radius;
+		this.state = new AtomicReference<ShipState>(new ShipState(xCoordinate, yCoordinate, xComponent, yComponent, orientation));
+	}
+
+	/**
+	 * Initialize this new concurrent ship with the state of the given ship.
+	 *
+	 * @param  ship
+	 * 			The ship whose state must be copied.
+	 * @effect | this(ship.getxCoordinate(), ship.getyCoordinate(), ship.getxVelocity(), ship.getyVelocity(),
+	 * 			|		ship.getRadius(), ship.getOrientation())
+	 * @throws NullPointerException
+	 * 			The given ship is not effective.
+	 * 			| ship == null
+	 */
+	public ConcurrentShip(Ship ship) throws NullPointerException {
+		this(ship.getxCoordinate(), ship.getyCoordinate(), ship.getxVelocity(), ship.getyVelocity(),
+				ship.getRadius(), ship.getOrientation());
+	}
+
+
+	/**
+	 * Return the current state of this ship.
+	 */
+	@Basic
+	public ShipState getState() {
+		return this.state.get();
+	}
+
+	/**
+	 * Return the position of this ship.
+	 *
+	 * @return | result == getState().getPosition()
+	 */
+	public ImmutablePosition getPosition() {
+		return getState().getPosition();
+	}
+
+	/**
+	 * Return the velocity of this ship.
+	 *
+	 * @return | result == getState().getVelocity()
+	 */
+	public ImmutableVelocity getVelocity() {
+		return getState().getVelocity();
+	}
+
+	/**
+	 * Return the orientation of this ship.
+	 *
+	 * @return | result == getState().getOrientation()
+	 */
+	public double getOrientation() {
+		return getState().getOrientation();
+	}
+
+	/**
+	 * Return the number of modifications of this ship.
+	 *
+	 * @return | result == getState().getNbModifications()
+	 */
+	public long getNbModifications() {
+		return getState().getNbModifications();
+	}
+
+	/**
+	 * Variable referencing the current state of this ship.
+	 */
+	private final AtomicReference<ShipState> state;
+
+
+	/**
+	 * Return the radius of this ship.
+	 */
+	@Basic @Immutable
+	public double getRadius() {
+		return this.radius;
+	}
+
+	/**
+	 * Variable registering the radius of this ship.
+	 */
+	private final double radius;
+
+
+	/**
+	 * Move this ship during the given duration.
+	 *
+	 * @param  duration
+	 * 			The length of the time interval during which this ship is moved.
+	 * @effect The state of this ship is atomically replaced by the state moved during the given duration.
+	 * 			| new.getState().equals(getState().moved(duration))
+	 * @throws IllegalArgumentException
+	 * 			The given duration is strictly less than 0.
+	 * 			| duration < 0
+	 * @throws IllegalCoordinateException
+	 * 			The new position of this ship is not valid. The state of this ship is not changed.
+	 */
+	public void move(double duration) throws IllegalArgumentException, IllegalCoordinateException {
+		ShipState current, next;
+		do {
+			current = state.get();
+			next = current.moved(duration);
+		} while (! state.compareAndSet(current, next));
+	}
+
+	/**
+	 * Change the velocity of this ship with the given amount.
+	 *
+	 * @param  amount
+	 * 			The amount to be added to the velocity.
+	 * @effect The state of this ship is atomically replaced by the state thrust with the given amount.
+	 * 			| new.getState().equals(getState().thrusted(amount))
+	 */
+	public void thrust(double amount) {
+		ShipState current, next;
+		do {
+			current = state.get();
+			next = current.thrusted(amount);
+		} while ((next != current) && ! state.compareAndSet(current, next));
+	}
+
+	/**
+	 * Turn this ship over the given angle.
+	 *
+	 * @param  angle
+	 * 			The angle over which this ship must be turned.
+	 * @pre    The resulting orientation is valid.
+	 * 			| Ship.isValidOrientation(getOrientation() + angle)
+	 * @effect The state of this ship is atomically replaced by the state turned over the given angle.
+	 * 			| new.getState().equals(getState().turned(angle))
+	 */
+	public void turn(double angle) {
+		ShipState current, next;
+		do {
+			current = state.get();
+			next = current.turned(angle);
+		} while (! state.compareAndSet(current, next));
+	}
+
+
+	/**
+	 * Return a new, ordinary ship with the current state of this ship.
+	 *
+	 * The result can be passed to the static methods of Ship, such as Ship.overlap and Ship.getTimeToCollision,
+	 * which then work on a consistent snapshot of this ship.
+	 *
+	 * @return | result.getImmutablePosition().equals(getPosition()) && result.getImmutableVelocity().equals(getVelocity())
+	 * 			|	&& result.getOrientation() == getOrientation() && result.getRadius() == getRadius()
+	 */
+	public Ship toShip() {
+		ShipState current = getState();
+		return new Ship(current.getPosition().getxCoordinate(), current.getPosition().getyCoordinate(),
+				current.getVelocity().getxComponent(), current.getVelocity().getyComponent(), getRadius(), current.getOrientation());
+	}
+}
@@ -0,0 +1,177 @@
+package asteroids.model;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import be.kuleuven.cs.som.annotate.Basic;
+
+/**
+ * A class of decoders that reconstruct the state of a fleet of ships from the frames of a {@link DeltaEncoder}.
+ *
+ * A decoder must be given the same quanta as the encoder, and must decode every frame of the encoder, in order.
+ * The coordinates, velocity components and orientation of each ship are then those of the corresponding ship of
+ * the encoder at the time of the last frame, up to half of the corresponding quantum.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class DeltaDecoder {
+
+	/**
+	 * Initialize this new decoder without any ships, with the given quanta.
+	 *
+	 * @param  positionQuantum
+	 * 			The quantum of the coordinates.
+	 * @param  velocityQuantum
+	 * 			The quantum of the velocity components.
+	 * @param  orientationQuantum
+	 * 			The quantum of the orientation.
+	 * @post   | new.getNbShips() == 0
+	 * @throws IllegalArgumentException
+	 * 			One of the given quanta is not strictly positive and finite.
+	 */
+	public DeltaDecoder(double positionQuantum, double velocityQuantum, double orientationQuantum)
+			throws IllegalArgumentException {
+		this.quanta = DeltaEncoder.getQuanta(positionQuantum, velocityQuantum, orientationQuantum);
+	}
+
+	/**
+	 * Variable referencing the quanta of the fields, in the order in which they are encoded.
+	 */
+	private final double[] quanta;
+
+
+	/**
+	 * Decode the frame between the position and the limit of the given buffer.
+	 *
+	 * @param  frame
+	 * 			The buffer holding the frame.
+	 * @return The number of ships whose state changed in the frame.
+	 * @post   The position of the given buffer is advanced past the frame.
+	 * @throws IllegalArgumentException
+	 * 			The given frame is malformed. In that case, the state of this decoder and the position
+	 * 			of the given buffer are left untouched.
+	 */
+	public int decode(ByteBuffer frame) throws IllegalArgumentException {
+		// The frame is read twice, so that a malformed frame is detected before anything is changed.
+		read(frame.duplicate(), false);
+		return read(frame, true);
+	}
+
+	/**
+	 * Read the frame between the position and the limit of the given buffer, and apply it to the state
+	 * of this decoder iff apply is true.
+	 *
+	 * @return The number of ships whose state changed in the frame.
+	 * @throws IllegalArgumentException
+	 * 			The given frame is malformed.
+	 */
+	private int read(ByteBuffer frame, boolean apply) throws IllegalArgumentException {
+		try {
+			long nbShips = DeltaEncoder.getVarLong(frame);
+			long nbChanged = DeltaEncoder.getVarLong(frame);
+			if ((nbShips < this.nbShips) || (nbShips > Integer.MAX_VALUE / DeltaEncoder.NB_FIELDS) || (nbChanged > nbShips))
+				throw new IllegalArgumentException("Malformed frame");
+			if (apply) {
+				if (nbShips > values.length / DeltaEncoder.NB_FIELDS)
+					values = Arrays.copyOf(values, (int) Math.max(nbShips, 2L * this.nbShips) * DeltaEncoder.NB_FIELDS);
+				this.nbShips = (int) nbShips;
+			}
+			long number = 0;
+			for (long i = 0; i < nbChanged; i++) {
+				number += DeltaEncoder.getVarLong(frame);
+				if ((number < 0) || (number >= nbShips))
+					throw new IllegalArgumentException("Malformed frame");
+				int mask = frame.get();
+				for (int field = 0; field < DeltaEncoder.NB_FIELDS; field++)
+					if ((mask & (1 << field)) != 0) {
+						long difference = DeltaEncoder.unzigzag(DeltaEncoder.getVarLong(frame));
+						if (apply)
+							values[(int) number * DeltaEncoder.NB_FIELDS + field] += difference;
+					}
+			}
+			return (int) nbChanged;
+		}
+		catch (BufferUnderflowException exc) {
+			throw new IllegalArgumentException("Truncated frame");
+		}
+	}
+
+	/**
+	 * Return the number of ships of this decoder.
+	 */
+	@Basic
+	public int getNbShips() {
+		return this.nbShips;
+	}
+
+	/**
+	 * Variable registering the number of ships of this decoder.
+	 */
+	private int nbShips = 0;
+
+	/**
+	 * Return the xCoordinate of the ship with the given number.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (number < 0) || (number >= getNbShips())
+	 */
+	public double getxCoordinate(int number) throws IndexOutOfBoundsException {
+		return get(number, 0);
+	}
+
+	/**
+	 * Return the yCoordinate of the ship with the given number.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (number < 0) || (number >= getNbShips())
+	 */
+	public double getyCoordinate(int number) throws IndexOutOfBoundsException {
+		return get(number, 1);
+	}
+
+	/**
+	 * Return the xComponent of the velocity of the ship with the given number.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (number < 0) || (number >= getNbShips())
+	 */
+	public double getxVelocity(int number) throws IndexOutOfBoundsException {
+		return get(number, 2);
+	}
+
+	/**
+	 * Return the yComponent of the velocity of the ship with the given number.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (number < 0) || (number >= getNbShips())
+	 */
+	public double getyVelocity(int number) throws IndexOutOfBoundsException {
+		return get(number, 3);
+	}
+
+	/**
+	 * Return the orientation of the ship with the given number.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (number < 0) || (number >= getNbShips())
+	 */
+	public double getOrientation(int number) throws IndexOutOfBoundsException {
+		return get(number, 4);
+	}
+
+	/**
+	 * Return the dequantized value of the given field of the ship with the given number.
+	 */
+	private double get(int number, int field) throws IndexOutOfBoundsException {
+		if ((number < 0) || (number >= nbShips))
+			throw new IndexOutOfBoundsException("Invalid number: " + number);
+		return values[number * DeltaEncoder.NB_FIELDS + field] * quanta[field];
+	}
+
+	/**
+	 * Variable referencing the quantized fields of each ship, DeltaEncoder.NB_FIELDS per ship.
+	 */
+	private long[] values = new long[0];
+}
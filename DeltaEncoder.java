@@ -0,0 +1,304 @@
+package asteroids.model;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+
+/**
+ * A class of encoders that turn the changes of a fleet of ships since the previous frame into compact frames,
+ * to be decoded by a {@link DeltaDecoder} with the same quanta.
+ *
+ * The coordinates, velocity components and orientation of each ship are quantized by dividing them by the
+ * corresponding quantum and rounding. A ship is only examined if its number of modifications changed since the
+ * previous frame, and only the quantized fields that differ from the values sent before are written.
+ *
+ * A frame consists of the number of ships of the fleet and the number of ships in the frame, followed by an
+ * entry for each ship in the frame, in increasing order of their number. An entry holds the difference with the
+ * number of the previous ship in the frame, a byte with one bit per changed field, and the difference between the
+ * new and the previous quantized value of each changed field. Numbers are written as variable-length integers of
+ * 7 bits per byte, and differences are zigzag-encoded first, so small differences of either sign take a single byte.
+ * Quantized values are reconstructed exactly by the decoder, so rounding errors never accumulate.
+ *
+ * A field can only be quantized if it lies strictly within 2^62 quanta of zero, which leaves room for the difference
+ * of any two quantized values in a long. For a quantum of 0.001, coordinates must thus be smaller than about 4.6*10^15
+ * in magnitude. Fleets with a field beyond that range are rejected by {@link #encode()}.
+ *
+ * @invar  Each quantum of each encoder is strictly positive and finite.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class DeltaEncoder {
+
+	/**
+	 * Constant registering the number of fields of each ship that are encoded.
+	 */
+	static final int NB_FIELDS = 5;
+
+	/**
+	 * Initialize this new encoder without any ships, with the given quanta.
+	 *
+	 * @param  positionQuantum
+	 * 			The quantum of the coordinates.
+	 * @param  velocityQuantum
+	 * 			The quantum of the velocity components.
+	 * @param  orientationQuantum
+	 * 			The quantum of the orientation.
+	 * @post   | new.getNbShips() == 0
+	 * @throws IllegalArgumentException
+	 * 			One of the given quanta is not strictly positive and finite.
+	 */
+	public DeltaEncoder(double positionQuantum, double velocityQuantum, double orientationQuantum)
+			throws IllegalArgumentException {
+		this.quanta = getQuanta(positionQuantum, velocityQuantum, orientationQuantum);
+	}
+
+	/**
+	 * Return the quanta of the fields, in the order in which they are encoded.
+	 *
+	 * @throws IllegalArgumentException
+	 * 			One of the given quanta is not strictly positive and finite.
+	 */
+	static double[] getQuanta(double positionQuantum, double velocityQuantum, double orientationQuantum)
+			throws IllegalArgumentException {
+		double[] quanta = new double[] {positionQuantum, positionQuantum, velocityQuantum, velocityQuantum, orientationQuantum};
+		for (double quantum : quanta)
+			if (! ((quantum > 0) && (quantum < Double.POSITIVE_INFINITY)))
+				throw new IllegalArgumentException();
+		return quanta;
+	}
+
+	/**
+	 * Variable referencing the quanta of the fields, in the order in which they are encoded.
+	 */
+	private final double[] quanta;
+
+
+	/**
+	 * Return the number of ships of this encoder.
+	 */
+	@Basic
+	public int getNbShips() {
+		return this.ships.size();
+	}
+
+	/**
+	 * Return the ship with the given number.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (number < 0) || (number >= getNbShips())
+	 */
+	@Basic @Immutable
+	public Ship getShip(int number) throws IndexOutOfBoundsException {
+		return this.ships.get(number);
+	}
+
+	/**
+	 * Add the given ship to this encoder. It is part of the next frame.
+	 *
+	 * @param  ship
+	 * 			The ship to add.
+	 * @return The number of the given ship, which is the number of ships of this encoder before the addition.
+	 * 			| result == getNbShips()
+	 * @post   | new.getShip(result) == ship
+	 * @throws IllegalArgumentException
+	 * 			The given ship is not effective.
+	 * 			| ship == null
+	 */
+	public int addShip(Ship ship) throws IllegalArgumentException {
+		if (ship == null)
+			throw new IllegalArgumentException();
+		int number = ships.size();
+		ships.add(ship);
+		if (number == nbModifications.length) {
+			int capacity = Math.max(16, 2 * number);
+			nbModifications = Arrays.copyOf(nbModifications, capacity);
+			sent = Arrays.copyOf(sent, capacity * NB_FIELDS);
+			changed = Arrays.copyOf(changed, capacity);
+			changedFields = Arrays.copyOf(changedFields, capacity);
+		}
+		// No number of modifications is negative, so the ship is part of the next frame.
+		nbModifications[number] = -1;
+		return number;
+	}
+
+	/**
+	 * Variable referencing the ships of this encoder, in the order of their numbers.
+	 */
+	private final List<Ship> ships = new ArrayList<Ship>();
+
+	/**
+	 * Variable referencing the number of modifications of each ship when the previous frame was encoded.
+	 */
+	private long[] nbModifications = new long[0];
+
+	/**
+	 * Variable referencing the quantized fields of each ship as they were last sent, NB_FIELDS per ship.
+	 */
+	private long[] sent = new long[0];
+
+	/**
+	 * Variable referencing the numbers of the ships in the frame being encoded.
+	 */
+	private int[] changed = new int[0];
+
+	/**
+	 * Variable referencing the mask of changed fields of each ship in the frame being encoded.
+	 */
+	private int[] changedFields = new int[0];
+
+
+	/**
+	 * Encode the changes of the ships of this encoder since the previous frame.
+	 *
+	 * @return A buffer holding the new frame between its position and its limit. The buffer is reused by
+	 * 			the next invocation of this method.
+	 * @throws IllegalArgumentException
+	 * 			A field of one of the ships that changed since the previous frame cannot be quantized.
+	 * 			In that case, no frame is encoded and the state of this encoder is left untouched.
+	 */
+	public ByteBuffer encode() throws IllegalArgumentException {
+		int nbShips = ships.size();
+		int nbChanged = 0;
+		for (int number = 0; number < nbShips; number++) {
+			Ship ship = ships.get(number);
+			if (ship.getNbModifications() == nbModifications[number])
+				continue;
+			int mask = getChangedFields(number, ship);
+			if (mask != 0) {
+				changed[nbChanged] = number;
+				changedFields[nbChanged++] = mask;
+			}
+		}
+		// Only once all fields turned out to be quantizable, the ships are marked as seen.
+		for (int number = 0; number < nbShips; number++)
+			nbModifications[number] = ships.get(number).getNbModifications();
+		// Each variable-length integer takes at most 10 bytes.
+		ensureCapacity(20 + nbChanged * (11 + 10 * NB_FIELDS));
+		buffer.clear();
+		putVarLong(buffer, nbShips);
+		putVarLong(buffer, nbChanged);
+		int previous = 0;
+		for (int i = 0; i < nbChanged; i++) {
+			int number = changed[i];
+			Ship ship = ships.get(number);
+			putVarLong(buffer, number - previous);
+			previous = number;
+			int mask = changedFields[i];
+			buffer.put((byte) mask);
+			for (int field = 0; field < NB_FIELDS; field++)
+				if ((mask & (1 << field)) != 0) {
+					long value = quantize(getField(ship, field), quanta[field]);
+					putVarLong(buffer, zigzag(value - sent[number * NB_FIELDS + field]));
+					sent[number * NB_FIELDS + field] = value;
+				}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	/**
+	 * Return a mask with a bit set for each field of the given ship whose quantized value differs from the value last sent.
+	 */
+	private int getChangedFields(int number, Ship ship) {
+		int mask = 0;
+		for (int field = 0; field < NB_FIELDS; field++)
+			if (quantize(getField(ship, field), quanta[field]) != sent[number * NB_FIELDS + field])
+				mask |= 1 << field;
+		return mask;
+	}
+
+	/**
+	 * Return the value of the given field of the given ship.
+	 */
+	private static double getField(Ship ship, int field) {
+		switch (field) {
+			case 0: return ship.getxCoordinate();
+			case 1: return ship.getyCoordinate();
+			case 2: return ship.getxVelocity();
+			case 3: return ship.getyVelocity();
+			default: return ship.getOrientation();
+		}
+	}
+
+	/**
+	 * Make sure the buffer of this encoder can hold the given number of bytes.
+	 */
+	private void ensureCapacity(int capacity) {
+		if (buffer.capacity() < capacity)
+			buffer = ByteBuffer.allocate(Math.max(capacity, 2 * buffer.capacity()));
+	}
+
+	/**
+	 * Variable referencing the buffer in which frames are encoded.
+	 */
+	private ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+
+	/**
+	 * Return the given value divided by the given quantum and rounded to the nearest long.
+	 *
+	 * @throws IllegalArgumentException
+	 * 			The given value divided by the given quantum is not strictly within MAX_QUANTIZED of zero.
+	 */
+	static long quantize(double value, double quantum) throws IllegalArgumentException {
+		double quotient = value / quantum;
+		// The negated comparison also rejects NaN.
+		if (! (Math.abs(quotient) < MAX_QUANTIZED))
+			throw new IllegalArgumentException("Value cannot be quantized: " + value);
+		return Math.round(quotient);
+	}
+
+	/**
+	 * Constant registering the bound on the magnitude of quantized values, such that the difference
+	 * of any two of them fits in a long.
+	 */
+	static final double MAX_QUANTIZED = 0x1p62;
+
+	/**
+	 * Return the given value with its sign moved to the lowest bit, so that values close to zero have few bits set.
+	 */
+	static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Return the value whose zigzag encoding is the given value.
+	 */
+	static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Write the given value, seen as unsigned, to the given buffer in groups of 7 bits, lowest group first.
+	 * The highest bit of each byte is set iff more bytes follow.
+	 */
+	static void putVarLong(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Read a value written by putVarLong from the given buffer.
+	 *
+	 * @throws IllegalArgumentException
+	 * 			The value has more than 10 bytes.
+	 */
+	static long getVarLong(ByteBuffer buffer) throws IllegalArgumentException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IllegalArgumentException("Malformed variable-length integer");
+	}
+}
@@ -1,6 +1,10 @@
 package asteroids.facade;
 
+import asteroids.model.ImmutablePosition;
+import asteroids.model.Position;
+import asteroids.model.ProductionMode;
 import asteroids.model.Ship;
+import asteroids.model.ShipMetrics;
 import asteroids.part1.facade.IFacade;
 import asteroids.util.ModelException;
 
@@ -13,6 +17,46 @@ public class Facade implements IFacade {
 		
 	}
 	
+	/**
+	 * Return a new ModelException with the given cause. In production mode, the result has no stack trace,
+	 * since the cause already tells what went wrong.
+	 */
+	static ModelException createModelException(Throwable cause) {
+		if (ProductionMode.isEnabled())
+			return new StacklessModelException(cause);
+		return new ModelException(cause);
+	}
+	
+	/**
+	 * Return a new ModelException with the given message. In production mode, the result has no stack trace.
+	 */
+	static ModelException createModelException(String message) {
+		if (ProductionMode.isEnabled())
+			return new StacklessModelException(message);
+		return new ModelException(message);
+	}
+	
+	/**
+	 * A class of model exceptions that do not record a stack trace.
+	 */
+	private static class StacklessModelException extends ModelException {
+		
+		private StacklessModelException(Throwable cause) {
+			super(cause);
+		}
+		
+		private StacklessModelException(String message) {
+			super(message);
+		}
+		
+		@Override
+		public Throwable fillInStackTrace() {
+			return this;
+		}
+		
+		private static final long serialVersionUID = 1L;
+	}
+	
 	/**
 	 * Create a new ship with a default position, velocity, radius and
 	 * direction.
@@ -25,7 +69,7 @@ public class Facade implements IFacade {
 			return new Ship(0,0, Ship.getMinimalRadius());
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -39,7 +83,7 @@ public class Facade implements IFacade {
 			return new Ship(x, y, xVelocity, yVelocity, radius, orientation);
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -49,12 +93,25 @@ public class Facade implements IFacade {
 	 */
 	public double[] getShipPosition(Ship ship) throws ModelException{
 		try{
-			return ship.getPosition().getAsArray();
+			return new double[] {ship.getxCoordinate(), ship.getyCoordinate()};
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
+	
+	/**
+	 * Write the position of <code>ship</code> into <code>out</code>, with the x-coordinate
+	 * at index 0 and the y-coordinate at index 1, and return <code>out</code>.
+	 */
+	public double[] getShipPosition(Ship ship, double[] out) throws ModelException {
+		checkPairBuffer(out);
+		if (ship == null)
+			throw createModelException("No ship!");
+		out[0] = ship.getxCoordinate();
+		out[1] = ship.getyCoordinate();
+		return out;
+	}
 
 	/**
 	 * Return the velocity of <code>ship</code> as an array of length 2, with the velocity
@@ -62,12 +119,33 @@ public class Facade implements IFacade {
 	 */
 	public double[] getShipVelocity(Ship ship) throws ModelException{
 		try{
-			return new double[] {ship.getVelocity().getxComponent(), ship.getVelocity().getyComponent()};
+			return new double[] {ship.getxVelocity(), ship.getyVelocity()};
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
+	
+	/**
+	 * Write the velocity of <code>ship</code> into <code>out</code>, with the velocity along
+	 * the X-axis at index 0 and the velocity along the Y-axis at index 1, and return <code>out</code>.
+	 */
+	public double[] getShipVelocity(Ship ship, double[] out) throws ModelException {
+		checkPairBuffer(out);
+		if (ship == null)
+			throw createModelException("No ship!");
+		out[0] = ship.getxVelocity();
+		out[1] = ship.getyVelocity();
+		return out;
+	}
+	
+	/**
+	 * Check whether <code>out</code> can hold an x- and a y-value.
+	 */
+	private static void checkPairBuffer(double[] out) throws ModelException {
+		if ((out == null) || (out.length < 2))
+			throw createModelException("No buffer for two values!");
+	}
 
 	/**
 	 * Return the radius of <code>ship</code>.
@@ -77,7 +155,7 @@ public class Facade implements IFacade {
 			return ship.getRadius();
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -89,7 +167,7 @@ public class Facade implements IFacade {
 			return ship.getOrientation();
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -101,7 +179,7 @@ public class Facade implements IFacade {
 		try {
 			ship.move(dt);
 		} catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -113,7 +191,7 @@ public class Facade implements IFacade {
 		try {
 			ship.thrust(amount);
 		} catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -124,11 +202,11 @@ public class Facade implements IFacade {
 	 */
 	public void turn(Ship ship, double angle) throws ModelException{
 		if (! Ship.isValidOrientation(ship.getOrientation() + angle))
-			throw new ModelException("Illegal rotation!");
+			throw createModelException("Illegal rotation!");
 		try {
 			ship.turn(angle);
 		} catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 	
@@ -145,7 +223,7 @@ public class Facade implements IFacade {
 			return Ship.getDistanceBetween(ship1, ship2);
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -158,7 +236,7 @@ public class Facade implements IFacade {
 			return Ship.overlap(ship1, ship2);
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
 		}
 	}
 
@@ -168,12 +246,18 @@ public class Facade implements IFacade {
 	 * they never collide. A ship never collides with itself.
 	 */
 	public double getTimeToCollision(Ship ship1, Ship ship2) throws ModelException{
+		double timeToCollision;
 		try {
-			return Ship.getTimeToCollision(ship1, ship2);
+			timeToCollision = Ship.getTimeToCollisionOrNaN(ship1, ship2);
 		}
 		catch (Exception exc) {
-			throw new ModelException(exc);
+			throw createModelException(exc);
+		}
+		if (Double.isNaN(timeToCollision)) {
+			ShipMetrics.countOverlap();
+			throw createModelException("The ships overlap!");
 		}
+		return timeToCollision;
 	}
 
 	/**
@@ -186,14 +270,185 @@ public class Facade implements IFacade {
 	 * index 1 represents the y-coordinate.
 	 */
 	public double[] getCollisionPosition(Ship ship1, Ship ship2) throws ModelException{
+		ImmutablePosition collisionPosition;
 		try {
-			return Ship.getCollisionPosition(ship1, ship2).getAsArray(); 
+			collisionPosition = Ship.getCollisionPositionOrNull(ship1, ship2);
+		}
+		catch (RuntimeException exc) {
+			throw createModelException(exc);
 		}
-		catch (NullPointerException exc) {
+		if (collisionPosition == null) {
+			// Only ships without a collision can overlap, and both ships are known to be effective here.
+			if (Ship.overlap(ship1, ship2)) {
+				ShipMetrics.countOverlap();
+				throw createModelException("The ships overlap!");
+			}
 			return null;
 		}
-		catch (Exception exc) {
-			throw new ModelException(exc);
+		return collisionPosition.getAsArray();
+	}
+	
+	/**
+	 * Write the first position where <code>ship1</code> and <code>ship2</code> collide into
+	 * <code>out</code>, with the x-coordinate at index 0 and the y-coordinate at index 1. Return
+	 * <code>out</code>, or <code>null</code> if they never collide, in which case <code>out</code>
+	 * is left unchanged.
+	 */
+	public double[] getCollisionPosition(Ship ship1, Ship ship2, double[] out) throws ModelException {
+		checkPairBuffer(out);
+		double timeToCollision;
+		try {
+			timeToCollision = Ship.predictCollisionOrNaN(ship1, ship2, out);
+		}
+		catch (RuntimeException exc) {
+			throw createModelException(exc);
+		}
+		if (Double.isNaN(timeToCollision)) {
+			ShipMetrics.countOverlap();
+			throw createModelException("The ships overlap!");
+		}
+		if (timeToCollision == Double.POSITIVE_INFINITY)
+			return null;
+		return out;
+	}
+	
+	/**
+	 * Status of an element of a batch operation that succeeded.
+	 */
+	public static final int STATUS_OK = 0;
+	
+	/**
+	 * Status of an element of a batch operation that failed because one of its arguments is illegal,
+	 * for example because a ship is null or would reach an invalid position.
+	 */
+	public static final int STATUS_ILLEGAL_ARGUMENT = 1;
+	
+	/**
+	 * Status of an element of a batch operation that failed because both ships overlap.
+	 */
+	public static final int STATUS_OVERLAP = 2;
+	
+	/**
+	 * Check that the given arrays of a batch operation have the expected lengths.
+	 */
+	private static void checkBatchLengths(int nbElements, int outLength, int outWidth, int[] status) throws ModelException {
+		if ((status == null) || (status.length < nbElements) || ((long) outLength < (long) outWidth * nbElements))
+			throw createModelException("Buffer too small!");
+	}
+	
+	/**
+	 * Update the position of each ship in <code>ships</code>, assuming it moves
+	 * <code>dt</code> seconds at its current velocity.
+	 * 
+	 * The status of each ship is written at the same index in <code>status</code>. A ship that
+	 * cannot be moved keeps its position. The result is the number of ships that could not be moved.
+	 */
+	public int moveAll(Ship[] ships, double dt, int[] status) throws ModelException {
+		if (ships == null)
+			throw createModelException("No ships!");
+		checkBatchLengths(ships.length, 0, 0, status);
+		int nbFailures = 0;
+		for (int i = 0; i < ships.length; i++) {
+			Ship ship = ships[i];
+			// Checking in advance avoids the cost of an exception for each failing ship.
+			if ((ship == null) || ! (dt >= 0)
+					|| ! Position.isValidCoordinate(ship.getxCoordinate() + dt * ship.getxVelocity())
+					|| ! Position.isValidCoordinate(ship.getyCoordinate() + dt * ship.getyVelocity())) {
+				status[i] = STATUS_ILLEGAL_ARGUMENT;
+				nbFailures++;
+				continue;
+			}
+			ship.move(dt);
+			status[i] = STATUS_OK;
+		}
+		return nbFailures;
+	}
+	
+	/**
+	 * Write the position of each ship in <code>ships</code> into <code>out</code>, with the
+	 * x-coordinate of the ship at index i at index 2*i and its y-coordinate at index 2*i+1.
+	 * 
+	 * The status of each ship is written at the same index in <code>status</code>. The coordinates
+	 * of a null ship are NaN. The result is the number of null ships.
+	 */
+	public int getShipPositions(Ship[] ships, double[] out, int[] status) throws ModelException {
+		if ((ships == null) || (out == null))
+			throw createModelException("No ships or no buffer!");
+		checkBatchLengths(ships.length, out.length, 2, status);
+		int nbFailures = 0;
+		for (int i = 0; i < ships.length; i++) {
+			Ship ship = ships[i];
+			if (ship == null) {
+				out[2 * i] = out[2 * i + 1] = Double.NaN;
+				status[i] = STATUS_ILLEGAL_ARGUMENT;
+				nbFailures++;
+				continue;
+			}
+			out[2 * i] = ship.getxCoordinate();
+			out[2 * i + 1] = ship.getyCoordinate();
+			status[i] = STATUS_OK;
+		}
+		return nbFailures;
+	}
+	
+	/**
+	 * Write the velocity of each ship in <code>ships</code> into <code>out</code>, with the
+	 * velocity along the X-axis of the ship at index i at index 2*i and its velocity along the
+	 * Y-axis at index 2*i+1.
+	 * 
+	 * The status of each ship is written at the same index in <code>status</code>. The components
+	 * of the velocity of a null ship are NaN. The result is the number of null ships.
+	 */
+	public int getShipVelocities(Ship[] ships, double[] out, int[] status) throws ModelException {
+		if ((ships == null) || (out == null))
+			throw createModelException("No ships or no buffer!");
+		checkBatchLengths(ships.length, out.length, 2, status);
+		int nbFailures = 0;
+		for (int i = 0; i < ships.length; i++) {
+			Ship ship = ships[i];
+			if (ship == null) {
+				out[2 * i] = out[2 * i + 1] = Double.NaN;
+				status[i] = STATUS_ILLEGAL_ARGUMENT;
+				nbFailures++;
+				continue;
+			}
+			out[2 * i] = ship.getxVelocity();
+			out[2 * i + 1] = ship.getyVelocity();
+			status[i] = STATUS_OK;
+		}
+		return nbFailures;
+	}
+	
+	/**
+	 * Write the number of seconds until the first collision between <code>ships1[i]</code> and
+	 * <code>ships2[i]</code> into <code>out[i]</code>, for each index i of <code>ships1</code>,
+	 * or Double.POSITIVE_INFINITY if they never collide.
+	 * 
+	 * The status of each pair is written at the same index in <code>status</code>. The time of a pair
+	 * of overlapping ships, or of a pair with a null ship, is NaN. The result is the number of such pairs.
+	 */
+	public int getTimesToCollision(Ship[] ships1, Ship[] ships2, double[] out, int[] status) throws ModelException {
+		if ((ships1 == null) || (ships2 == null) || (out == null) || (ships2.length < ships1.length))
+			throw createModelException("No ships or no buffer!");
+		checkBatchLengths(ships1.length, out.length, 1, status);
+		int nbFailures = 0;
+		for (int i = 0; i < ships1.length; i++) {
+			if ((ships1[i] == null) || (ships2[i] == null)) {
+				out[i] = Double.NaN;
+				status[i] = STATUS_ILLEGAL_ARGUMENT;
+				nbFailures++;
+				continue;
+			}
+			double time = Ship.getTimeToCollisionOrNaN(ships1[i], ships2[i]);
+			out[i] = time;
+			if (Double.isNaN(time)) {
+				ShipMetrics.countOverlap();
+				status[i] = STATUS_OVERLAP;
+				nbFailures++;
+			}
+			else
+				status[i] = STATUS_OK;
 		}
+		return nbFailures;
 	}
 }
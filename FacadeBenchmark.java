@@ -0,0 +1,136 @@
+package asteroids.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import asteroids.facade.Facade;
+import asteroids.model.Ship;
+import asteroids.util.ModelException;
+
+/**
+ * Benchmarks of the hot paths of the facade, which add the cost of wrapping
+ * exceptions and of returning results as arrays to the cost of the ship model.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FacadeBenchmark {
+
+	/**
+	 * The number of ships in the fleet.
+	 */
+	@Param({"10", "1000", "100000"})
+	public int nbShips;
+
+	/**
+	 * The facade under test.
+	 */
+	private final Facade facade = new Facade();
+
+	/**
+	 * The fleet of ships.
+	 */
+	private Ship[] fleet;
+
+	/**
+	 * The index of the next ship to handle.
+	 */
+	private int cursor = 0;
+
+	/**
+	 * Create a randomized fleet of the requested size.
+	 */
+	@Setup
+	public void setUp() {
+		fleet = ShipBenchmark.createFleet(nbShips, 42);
+	}
+
+	/**
+	 * Return the next ship of the fleet.
+	 */
+	private Ship nextShip() {
+		if (++cursor == fleet.length)
+			cursor = 0;
+		return fleet[cursor];
+	}
+
+	/**
+	 * Return the ship following the current ship in the fleet.
+	 */
+	private Ship followingShip() {
+		return fleet[(cursor + 1 == fleet.length) ? 0 : cursor + 1];
+	}
+
+	@Benchmark
+	public double[] getShipPosition() throws ModelException {
+		return facade.getShipPosition(nextShip());
+	}
+
+	@Benchmark
+	public double[] getShipVelocity() throws ModelException {
+		return facade.getShipVelocity(nextShip());
+	}
+
+	@Benchmark
+	public void move() throws ModelException {
+		facade.move(nextShip(), 0.01);
+	}
+
+	@Benchmark
+	public void thrust() throws ModelException {
+		facade.thrust(nextShip(), 1);
+	}
+
+	@Benchmark
+	public void turn() throws ModelException {
+		Ship ship = nextShip();
+		facade.turn(ship, 0.5);
+		facade.turn(ship, -0.5);
+	}
+
+	@Benchmark
+	public double getDistanceBetween() throws ModelException {
+		return facade.getDistanceBetween(nextShip(), followingShip());
+	}
+
+	@Benchmark
+	public boolean overlap() throws ModelException {
+		return facade.overlap(nextShip(), followingShip());
+	}
+
+	@Benchmark
+	public void getTimeToCollision(Blackhole blackhole) {
+		Ship ship1 = nextShip();
+		Ship ship2 = followingShip();
+		try {
+			blackhole.consume(facade.getTimeToCollision(ship1, ship2));
+		}
+		catch (ModelException exc) {
+			blackhole.consume(exc);
+		}
+	}
+
+	@Benchmark
+	public void getCollisionPosition(Blackhole blackhole) {
+		Ship ship1 = nextShip();
+		Ship ship2 = followingShip();
+		try {
+			blackhole.consume(facade.getCollisionPosition(ship1, ship2));
+		}
+		catch (ModelException exc) {
+			blackhole.consume(exc);
+		}
+	}
+}
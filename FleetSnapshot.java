@@ -0,0 +1,328 @@
+package asteroids.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+
+/**
+ * A class of read-only views on snapshots of a fleet of ships, stored in a file that is mapped into memory.
+ *
+ * A snapshot file starts with a header of HEADER_SIZE bytes: the int MAGIC, the int VERSION, the minimal
+ * radius of ships when the snapshot was written as a double, and the number of ships as a long. The header
+ * is followed by one record of RECORD_SIZE bytes per ship, holding the xCoordinate, yCoordinate, xComponent
+ * and yComponent of the velocity, radius and orientation of the ship as doubles. All values are little-endian.
+ *
+ * The properties of the ships are read directly from the mapped file, so opening a snapshot takes constant
+ * time whatever the number of ships, and the accessors of a snapshot never copy its records. Ships are only
+ * created when they are asked for. Only {@link #toShipStore()} copies all records, onto the heap.
+ *
+ * @invar  The number of ships of each snapshot is non-negative.
+ *       | getNbShips() >= 0
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public final class FleetSnapshot {
+
+	/**
+	 * Constant registering the first four bytes of each snapshot file.
+	 */
+	public static final int MAGIC = 0x41535453;
+
+	/**
+	 * Constant registering the version of the snapshot format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Constant registering the number of bytes in the header of a snapshot file.
+	 */
+	public static final int HEADER_SIZE = 24;
+
+	/**
+	 * Constant registering the number of bytes in the record of a single ship.
+	 */
+	public static final int RECORD_SIZE = 48;
+
+	/**
+	 * Constant registering the largest number of ships in a snapshot, such that the whole file can be mapped at once.
+	 */
+	public static final int MAX_NB_SHIPS = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+
+
+	/**
+	 * Initialize this new snapshot on the given buffer.
+	 */
+	private FleetSnapshot(ByteBuffer buffer, double minimalRadius, int nbShips) {
+		this.buffer = buffer;
+		this.minimalRadius = minimalRadius;
+		this.nbShips = nbShips;
+	}
+
+	/**
+	 * Open the snapshot stored in the file at the given path.
+	 *
+	 * @param  path
+	 * 			The path of the snapshot file.
+	 * @return A snapshot reading the ships stored in the given file.
+	 * @throws IOException
+	 * 			The file cannot be read, or is not a snapshot file of the current version.
+	 */
+	public static FleetSnapshot open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_SIZE)
+				throw new IOException("Not a snapshot file: " + path);
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(size, Integer.MAX_VALUE));
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			if ((buffer.getInt(0) != MAGIC) || (buffer.getInt(4) != VERSION))
+				throw new IOException("Not a snapshot file of version " + VERSION + ": " + path);
+			long nbShips = buffer.getLong(16);
+			if ((nbShips < 0) || (nbShips > MAX_NB_SHIPS) || (size != HEADER_SIZE + nbShips * RECORD_SIZE))
+				throw new IOException("Corrupt snapshot file: " + path);
+			return new FleetSnapshot(buffer, buffer.getDouble(8), (int) nbShips);
+		}
+	}
+
+	/**
+	 * Write a snapshot of the given ships to the file at the given path, replacing its contents.
+	 *
+	 * @param  path
+	 * 			The path of the snapshot file.
+	 * @param  ships
+	 * 			The ships to store, in the order in which they must be stored.
+	 * @post   | FleetSnapshot.open(path).getNbShips() == ships.size()
+	 * @post   The snapshot records the current minimal radius of ships and, for each index i, the state of ships.get(i).
+	 * @post   When this method returns, the snapshot has been forced to the storage device, so that it survives
+	 * 			a crash of the operating system.
+	 * @throws IOException
+	 * 			The file cannot be written.
+	 * @throws IllegalArgumentException
+	 * 			There are too many ships, or one of them is not effective.
+	 * 			| (ships.size() > MAX_NB_SHIPS) || ships.contains(null)
+	 * 			In that case, the file is left untouched.
+	 */
+	public static void write(Path path, List<Ship> ships) throws IOException, IllegalArgumentException {
+		if (ships.size() > MAX_NB_SHIPS)
+			throw new IllegalArgumentException();
+		// Checked before the file is truncated, so that an invalid list does not leave a corrupt snapshot behind.
+		for (Ship ship : ships)
+			if (ship == null)
+				throw new IllegalArgumentException();
+		MappedByteBuffer buffer = map(path, ships.size());
+		for (Ship ship : ships)
+			putRecord(buffer, ship.getxCoordinate(), ship.getyCoordinate(), ship.getxVelocity(), ship.getyVelocity(),
+					ship.getRadius(), ship.getOrientation());
+		buffer.force();
+	}
+
+	/**
+	 * Write a snapshot of the ships in the given store to the file at the given path, replacing its contents.
+	 *
+	 * @param  path
+	 * 			The path of the snapshot file.
+	 * @param  store
+	 * 			The store whose ships must be stored, in the order of their handles.
+	 * @post   | FleetSnapshot.open(path).getNbShips() == store.getNbShips()
+	 * @post   The snapshot records the current minimal radius of ships and, for each handle, the state of the ship
+	 * 			with that handle in the given store.
+	 * @post   When this method returns, the snapshot has been forced to the storage device, so that it survives
+	 * 			a crash of the operating system.
+	 * @throws IOException
+	 * 			The file cannot be written.
+	 * @throws IllegalArgumentException
+	 * 			The given store has too many ships.
+	 * 			| store.getNbShips() > MAX_NB_SHIPS
+	 * 			In that case, the file is left untouched.
+	 */
+	public static void write(Path path, ShipStore store) throws IOException, IllegalArgumentException {
+		if (store.getNbShips() > MAX_NB_SHIPS)
+			throw new IllegalArgumentException();
+		MappedByteBuffer buffer = map(path, store.getNbShips());
+		for (int handle = 0; handle < store.getNbShips(); handle++)
+			putRecord(buffer, store.getxCoordinate(handle), store.getyCoordinate(handle), store.getxVelocity(handle),
+					store.getyVelocity(handle), store.getRadius(handle), store.getOrientation(handle));
+		buffer.force();
+	}
+
+	/**
+	 * Create or truncate the file at the given path, map it for the given number of ships, write the header and
+	 * return the mapped buffer, positioned at the first record.
+	 */
+	private static MappedByteBuffer map(Path path, int nbShips) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) nbShips * RECORD_SIZE);
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.putInt(MAGIC).putInt(VERSION).putDouble(Ship.getMinimalRadius()).putLong(nbShips);
+			return buffer;
+		}
+	}
+
+	/**
+	 * Append a record with the given properties to the given buffer.
+	 */
+	private static void putRecord(ByteBuffer buffer, double xCoordinate, double yCoordinate, double xComponent,
+			double yComponent, double radius, double orientation) {
+		buffer.putDouble(xCoordinate).putDouble(yCoordinate).putDouble(xComponent).putDouble(yComponent)
+				.putDouble(radius).putDouble(orientation);
+	}
+
+
+	/**
+	 * Return the minimal radius of ships when this snapshot was written.
+	 *
+	 * Ships with a radius below the current minimal radius cannot be created. To restore all ships of a
+	 * snapshot, the minimal radius may first have to be set to the minimal radius of the snapshot.
+	 */
+	@Basic @Immutable
+	public double getMinimalRadius() {
+		return this.minimalRadius;
+	}
+
+	/**
+	 * Variable registering the minimal radius of ships when this snapshot was written.
+	 */
+	private final double minimalRadius;
+
+	/**
+	 * Return the number of ships in this snapshot.
+	 */
+	@Basic @Immutable
+	public int getNbShips() {
+		return this.nbShips;
+	}
+
+	/**
+	 * Variable registering the number of ships in this snapshot.
+	 */
+	private final int nbShips;
+
+	/**
+	 * Return the xCoordinate of the ship at the given index.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 */
+	public double getxCoordinate(int index) throws IndexOutOfBoundsException {
+		return get(index, 0);
+	}
+
+	/**
+	 * Return the yCoordinate of the ship at the given index.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 */
+	public double getyCoordinate(int index) throws IndexOutOfBoundsException {
+		return get(index, 1);
+	}
+
+	/**
+	 * Return the xComponent of the velocity of the ship at the given index.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 */
+	public double getxVelocity(int index) throws IndexOutOfBoundsException {
+		return get(index, 2);
+	}
+
+	/**
+	 * Return the yComponent of the velocity of the ship at the given index.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 */
+	public double getyVelocity(int index) throws IndexOutOfBoundsException {
+		return get(index, 3);
+	}
+
+	/**
+	 * Return the radius of the ship at the given index.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 */
+	public double getRadius(int index) throws IndexOutOfBoundsException {
+		return get(index, 4);
+	}
+
+	/**
+	 * Return the orientation of the ship at the given index.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 */
+	public double getOrientation(int index) throws IndexOutOfBoundsException {
+		return get(index, 5);
+	}
+
+	/**
+	 * Return the field with the given number of the record at the given index.
+	 */
+	private double get(int index, int field) throws IndexOutOfBoundsException {
+		if ((index < 0) || (index >= nbShips))
+			throw new IndexOutOfBoundsException("Invalid index: " + index);
+		return buffer.getDouble(HEADER_SIZE + index * RECORD_SIZE + 8 * field);
+	}
+
+	/**
+	 * Variable referencing the mapped contents of the snapshot file.
+	 */
+	private final ByteBuffer buffer;
+
+
+	/**
+	 * Return a new ship with the state of the ship at the given index.
+	 *
+	 * @param  index
+	 * 			The index of the ship.
+	 * @return | result.getxCoordinate() == getxCoordinate(index) && result.getyCoordinate() == getyCoordinate(index)
+	 * 			|	&& result.getxVelocity() == getxVelocity(index) && result.getyVelocity() == getyVelocity(index)
+	 * 			|	&& result.getRadius() == getRadius(index) && result.getOrientation() == getOrientation(index)
+	 * @throws IndexOutOfBoundsException
+	 * 			| (index < 0) || (index >= getNbShips())
+	 * @throws IllegalCoordinateException
+	 * 			The stored position is not valid.
+	 * @throws IllegalRadiusException
+	 * 			The stored radius is not a valid radius for any ship.
+	 */
+	public Ship getShip(int index) throws IndexOutOfBoundsException, IllegalCoordinateException, IllegalRadiusException {
+		return new Ship(getxCoordinate(index), getyCoordinate(index), getxVelocity(index), getyVelocity(index),
+				getRadius(index), getOrientation(index));
+	}
+
+	/**
+	 * Return a new store holding all ships of this snapshot, with the index of each ship as its handle.
+	 *
+	 * Unlike the accessors of this snapshot, this method is not a view on the mapped file: it validates every
+	 * record and copies it into the arrays of the new store, which takes time linear in the number of ships and
+	 * nine doubles of heap per ship, as well as reading the whole file from the storage device. The
+	 * resulting store no longer depends on this snapshot.
+	 *
+	 * @return | result.getNbShips() == getNbShips()
+	 * @return Each ship of the result has the state of the ship of this snapshot with the same index.
+	 * @throws IllegalCoordinateException
+	 * 			One of the stored positions is not valid.
+	 * @throws IllegalRadiusException
+	 * 			One of the stored radii is not a valid radius for any ship.
+	 */
+	public ShipStore toShipStore() throws IllegalCoordinateException, IllegalRadiusException {
+		ShipStore store = new ShipStore(nbShips);
+		for (int index = 0; index < nbShips; index++) {
+			int offset = HEADER_SIZE + index * RECORD_SIZE;
+			store.addShip(buffer.getDouble(offset), buffer.getDouble(offset + 8), buffer.getDouble(offset + 16),
+					buffer.getDouble(offset + 24), buffer.getDouble(offset + 32), buffer.getDouble(offset + 40));
+		}
+		return store;
+	}
+}
@@ -8,8 +8,37 @@ package asteroids.model;
  */
 public class IllegalCoordinateException extends RuntimeException {
 	
+	/**
+	 * Initialize this new IllegalCoordinateException.
+	 * 
+	 * @post   This new exception has a stack trace iff production mode is disabled.
+	 */
 	public IllegalCoordinateException() {
-		super();
+		super(null, null, true, ! ProductionMode.isEnabled());
+	}
+	
+	/**
+	 * Return an IllegalCoordinateException to be thrown.
+	 * 
+	 * @return In production mode, a shared instance without a stack trace. Otherwise, a new instance.
+	 */
+	public static IllegalCoordinateException getInstance() {
+		if (ProductionMode.isEnabled())
+			return SHARED_INSTANCE;
+		return new IllegalCoordinateException();
+	}
+	
+	/**
+	 * Constant referencing the instance shared in production mode.
+	 */
+	private static final IllegalCoordinateException SHARED_INSTANCE = new IllegalCoordinateException(false);
+	
+	/**
+	 * Initialize this new IllegalCoordinateException, without a stack trace if so requested, and without
+	 * suppressed exceptions, since the shared instance may be thrown by several threads at once.
+	 */
+	private IllegalCoordinateException(boolean writableStackTrace) {
+		super(null, null, false, writableStackTrace);
 	}
 	
 	private static final long serialVersionUID = 1L;
@@ -9,9 +9,35 @@ package asteroids.model;
 public class IllegalRadiusException extends RuntimeException {
 	/**
 	 * Initialize this new IllegalRadiusException.
+	 * 
+	 * @post   This new exception has a stack trace iff production mode is disabled.
 	 */
 	public IllegalRadiusException() {
-		super();
+		super(null, null, true, ! ProductionMode.isEnabled());
+	}
+	
+	/**
+	 * Return an IllegalRadiusException to be thrown.
+	 * 
+	 * @return In production mode, a shared instance without a stack trace. Otherwise, a new instance.
+	 */
+	public static IllegalRadiusException getInstance() {
+		if (ProductionMode.isEnabled())
+			return SHARED_INSTANCE;
+		return new IllegalRadiusException();
+	}
+	
+	/**
+	 * Constant referencing the instance shared in production mode.
+	 */
+	private static final IllegalRadiusException SHARED_INSTANCE = new IllegalRadiusException(false);
+	
+	/**
+	 * Initialize this new IllegalRadiusException, without a stack trace if so requested, and without
+	 * suppressed exceptions, since the shared instance may be thrown by several threads at once.
+	 */
+	private IllegalRadiusException(boolean writableStackTrace) {
+		super(null, null, false, writableStackTrace);
 	}
 	
 	
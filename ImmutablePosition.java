@@ -0,0 +1,188 @@
+package asteroids.model;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+import be.kuleuven.cs.som.annotate.Value;
+
+/**
+ * A class representing an immutable position of a ship.
+ *
+ * Unlike {@link Position}, objects of this class can never change, so they can be shared
+ * freely without being copied.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ *
+ * @invar  The xCoordinate of each immutable position must be a valid coordinate for any position.
+ *       | Position.isValidCoordinate(getxCoordinate())
+ * @invar  The yCoordinate of each immutable position must be a valid coordinate for any position.
+ *       | Position.isValidCoordinate(getyCoordinate())
+ */
+@Value
+public final class ImmutablePosition {
+
+	/**
+	 * Initialize this new immutable position with given xCoordinate and yCoordinate.
+	 *
+	 * @param  xCoordinate
+	 *         The xCoordinate for this new immutable position.
+	 * @param  yCoordinate
+	 *         The yCoordinate for this new immutable position.
+	 * @post   The xCoordinate of this new immutable position is equal to the given xCoordinate.
+	 *       | new.getxCoordinate() == xCoordinate
+	 * @post   The yCoordinate of this new immutable position is equal to the given yCoordinate.
+	 *       | new.getyCoordinate() == yCoordinate
+	 * @throws IllegalCoordinateException
+	 * 		   One of the given coordinates is not valid.
+	 * 		 | ! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate)
+	 */
+	public ImmutablePosition(double xCoordinate, double yCoordinate) throws IllegalCoordinateException {
+		if (! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate))
+			throw IllegalCoordinateException.getInstance();
+		this.xCoordinate = xCoordinate;
+		this.yCoordinate = yCoordinate;
+		this.hashCode = 31 * Double.hashCode(xCoordinate) + Double.hashCode(yCoordinate);
+	}
+
+
+	/**
+	 * Return the xCoordinate of this immutable position.
+	 */
+	@Basic @Immutable
+	public double getxCoordinate() {
+		return this.xCoordinate;
+	}
+
+	/**
+	 * Variable registering the xCoordinate of this immutable position.
+	 */
+	private final double xCoordinate;
+
+
+	/**
+	 * Return the yCoordinate of this immutable position.
+	 */
+	@Basic @Immutable
+	public double getyCoordinate() {
+		return this.yCoordinate;
+	}
+
+	/**
+	 * Variable registering the yCoordinate of this immutable position.
+	 */
+	private final double yCoordinate;
+
+
+	/**
+	 * Return the position that is shifted over the given distances along both axes.
+	 *
+	 * @param  dx
+	 * 			The distance to shift along the X-axis.
+	 * @param  dy
+	 * 			The distance to shift along the Y-axis.
+	 * @return The position whose coordinates are the sum of the coordinates of this position and the given distances.
+	 * 			| result.equals(new ImmutablePosition(getxCoordinate() + dx, getyCoordinate() + dy))
+	 * @throws IllegalCoordinateException
+	 * 			One of the resulting coordinates is not valid.
+	 * 			| ! Position.isValidCoordinate(getxCoordinate() + dx) || ! Position.isValidCoordinate(getyCoordinate() + dy)
+	 */
+	public ImmutablePosition plus(double dx, double dy) throws IllegalCoordinateException {
+		return new ImmutablePosition(getxCoordinate() + dx, getyCoordinate() + dy);
+	}
+
+	/**
+	 * Return the position reached from this position after moving at the given velocity during the given duration.
+	 *
+	 * @param  velocity
+	 * 			The velocity at which to move.
+	 * @param  duration
+	 * 			The duration of the movement.
+	 * @return The position shifted over the given duration times each component of the given velocity.
+	 * 			| result.equals(plus(duration * velocity.getxComponent(), duration * velocity.getyComponent()))
+	 * @throws NullPointerException
+	 * 			The given velocity is not effective.
+	 * 			| velocity == null
+	 * @throws IllegalCoordinateException
+	 * 			One of the resulting coordinates is not valid.
+	 */
+	public ImmutablePosition plus(ImmutableVelocity velocity, double duration) throws NullPointerException, IllegalCoordinateException {
+		return plus(duration * velocity.getxComponent(), duration * velocity.getyComponent());
+	}
+
+	/**
+	 * Return the distance between this position and the given position.
+	 *
+	 * @param  other
+	 * 			The other position.
+	 * @return The Euclidean distance between both positions.
+	 * 			| result == Math.hypot(getxCoordinate() - other.getxCoordinate(), getyCoordinate() - other.getyCoordinate())
+	 * @throws NullPointerException
+	 * 			The given position is not effective.
+	 * 			| other == null
+	 */
+	public double distanceTo(ImmutablePosition other) throws NullPointerException {
+		return Math.hypot(getxCoordinate() - other.getxCoordinate(), getyCoordinate() - other.getyCoordinate());
+	}
+
+	/**
+	 * Return a mutable position with the same coordinates as this immutable position.
+	 *
+	 * @return A new position with the coordinates of this immutable position.
+	 * 			| (result.getxCoordinate() == getxCoordinate()) && (result.getyCoordinate() == getyCoordinate())
+	 */
+	public Position toPosition() {
+		return new Position(getxCoordinate(), getyCoordinate());
+	}
+
+	/**
+	 * Return this immutable position as an array of length 2, with the position
+	 * along the X-axis at index 0 and the position along the Y-axis at index 1.
+	 *
+	 * @return  | result == new double[] {getxCoordinate(), getyCoordinate()}
+	 */
+	public double[] getAsArray() {
+		return new double[] {getxCoordinate(), getyCoordinate()};
+	}
+
+
+	/**
+	 * Check whether this immutable position is equal to the given object.
+	 *
+	 * @return True iff the given object is an immutable position with the same coordinates.
+	 * 			| result == (other instanceof ImmutablePosition) &&
+	 * 			|	(Double.compare(getxCoordinate(), ((ImmutablePosition) other).getxCoordinate()) == 0) &&
+	 * 			|	(Double.compare(getyCoordinate(), ((ImmutablePosition) other).getyCoordinate()) == 0)
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (! (other instanceof ImmutablePosition))
+			return false;
+		ImmutablePosition otherPosition = (ImmutablePosition) other;
+		return (hashCode == otherPosition.hashCode)
+				&& (Double.compare(getxCoordinate(), otherPosition.getxCoordinate()) == 0)
+				&& (Double.compare(getyCoordinate(), otherPosition.getyCoordinate()) == 0);
+	}
+
+	/**
+	 * Return the hash code of this immutable position.
+	 */
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	/**
+	 * Variable caching the hash code of this immutable position.
+	 */
+	private final int hashCode;
+
+	/**
+	 * Return a textual representation of this immutable position.
+	 */
+	@Override
+	public String toString() {
+		return "(" + getxCoordinate() + ", " + getyCoordinate() + ")";
+	}
+}
@@ -0,0 +1,168 @@
+package asteroids.model;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+import be.kuleuven.cs.som.annotate.Value;
+
+/**
+ * A class representing an immutable velocity of a ship.
+ *
+ * Unlike {@link Velocity}, objects of this class can never change, so they can be shared
+ * freely without being copied.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ *
+ * @invar  The xComponent of each immutable velocity must be a valid component for any velocity.
+ *       | Velocity.isValidComponent(getxComponent())
+ * @invar  The yComponent of each immutable velocity must be a valid component for any velocity.
+ *       | Velocity.isValidComponent(getyComponent())
+ */
+@Value
+public final class ImmutableVelocity {
+
+	/**
+	 * Initialize this new immutable velocity with given xComponent and yComponent.
+	 *
+	 * @param  xComponent
+	 *         The xComponent for this new immutable velocity.
+	 * @param  yComponent
+	 *         The yComponent for this new immutable velocity.
+	 * @post   If the given xComponent is valid, the xComponent of this new immutable velocity is equal to
+	 * 			the given xComponent. Otherwise, it is zero.
+	 *       | if (Velocity.isValidComponent(xComponent))
+	 *       |		then new.getxComponent() == xComponent
+	 *       |		else new.getxComponent() == 0
+	 * @post   If the given yComponent is valid, the yComponent of this new immutable velocity is equal to
+	 * 			the given yComponent. Otherwise, it is zero.
+	 *       | if (Velocity.isValidComponent(yComponent))
+	 *       |		then new.getyComponent() == yComponent
+	 *       |		else new.getyComponent() == 0
+	 */
+	public ImmutableVelocity(double xComponent, double yComponent) {
+		this.xComponent = Velocity.isValidComponent(xComponent) ? xComponent : 0;
+		this.yComponent = Velocity.isValidComponent(yComponent) ? yComponent : 0;
+		this.hashCode = 31 * Double.hashCode(this.xComponent) + Double.hashCode(this.yComponent);
+	}
+
+	/**
+	 * Constant representing the zero velocity.
+	 */
+	public static final ImmutableVelocity ZERO = new ImmutableVelocity(0, 0);
+
+
+	/**
+	 * Return the xComponent of this immutable velocity.
+	 */
+	@Basic @Immutable
+	public double getxComponent() {
+		return this.xComponent;
+	}
+
+	/**
+	 * Variable registering the xComponent of this immutable velocity.
+	 */
+	private final double xComponent;
+
+
+	/**
+	 * Return the yComponent of this immutable velocity.
+	 */
+	@Basic @Immutable
+	public double getyComponent() {
+		return this.yComponent;
+	}
+
+	/**
+	 * Variable registering the yComponent of this immutable velocity.
+	 */
+	private final double yComponent;
+
+
+	/**
+	 * Return the speed corresponding to this immutable velocity.
+	 *
+	 * @return | result == Math.hypot(getxComponent(), getyComponent())
+	 */
+	public double getSpeed() {
+		return Math.hypot(getxComponent(), getyComponent());
+	}
+
+	/**
+	 * Return the sum of this immutable velocity and the given immutable velocity.
+	 *
+	 * @param  other
+	 * 			The velocity to add.
+	 * @return | result.equals(new ImmutableVelocity(getxComponent() + other.getxComponent(),
+	 * 			|									getyComponent() + other.getyComponent()))
+	 * @throws NullPointerException
+	 * 			The given velocity is not effective.
+	 * 			| other == null
+	 */
+	public ImmutableVelocity plus(ImmutableVelocity other) throws NullPointerException {
+		return new ImmutableVelocity(getxComponent() + other.getxComponent(), getyComponent() + other.getyComponent());
+	}
+
+	/**
+	 * Return this immutable velocity scaled by the given factor.
+	 *
+	 * @param  factor
+	 * 			The factor by which to scale.
+	 * @return | result.equals(new ImmutableVelocity(getxComponent() * factor, getyComponent() * factor))
+	 */
+	public ImmutableVelocity scaledBy(double factor) {
+		return new ImmutableVelocity(getxComponent() * factor, getyComponent() * factor);
+	}
+
+	/**
+	 * Return a mutable velocity with the same components as this immutable velocity.
+	 *
+	 * @return A new velocity with the components of this immutable velocity.
+	 * 			| (result.getxComponent() == getxComponent()) && (result.getyComponent() == getyComponent())
+	 */
+	public Velocity toVelocity() {
+		return new Velocity(getxComponent(), getyComponent());
+	}
+
+
+	/**
+	 * Check whether this immutable velocity is equal to the given object.
+	 *
+	 * @return True iff the given object is an immutable velocity with the same components.
+	 * 			| result == (other instanceof ImmutableVelocity) &&
+	 * 			|	(Double.compare(getxComponent(), ((ImmutableVelocity) other).getxComponent()) == 0) &&
+	 * 			|	(Double.compare(getyComponent(), ((ImmutableVelocity) other).getyComponent()) == 0)
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (! (other instanceof ImmutableVelocity))
+			return false;
+		ImmutableVelocity otherVelocity = (ImmutableVelocity) other;
+		return (hashCode == otherVelocity.hashCode)
+				&& (Double.compare(getxComponent(), otherVelocity.getxComponent()) == 0)
+				&& (Double.compare(getyComponent(), otherVelocity.getyComponent()) == 0);
+	}
+
+	/**
+	 * Return the hash code of this immutable velocity.
+	 */
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	/**
+	 * Variable caching the hash code of this immutable velocity.
+	 */
+	private final int hashCode;
+
+	/**
+	 * Return a textual representation of this immutable velocity.
+	 */
+	@Override
+	public String toString() {
+		return "[" + getxComponent() + ", " + getyComponent() + "]";
+	}
+}
@@ -0,0 +1,130 @@
+package asteroids.facade;
+
+import java.io.IOException;
+
+import asteroids.model.Ship;
+import asteroids.util.ModelException;
+
+/**
+ * A facade that records every ship it creates and every move, thrust and turn it applies in a command journal.
+ *
+ * Only calls that succeed are recorded, so replaying the journal through {@link CommandJournal#replay}
+ * reconstructs the same ships. Ships that were not created through this facade cannot be commanded through it.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class JournalingFacade extends Facade {
+
+	/**
+	 * Initialize this new facade with the given journal.
+	 *
+	 * @param  journal
+	 * 			The journal in which to record the calls.
+	 * @throws IllegalArgumentException
+	 * 			The given journal is not effective.
+	 * 			| journal == null
+	 */
+	public JournalingFacade(CommandJournal journal) throws IllegalArgumentException {
+		if (journal == null)
+			throw new IllegalArgumentException();
+		this.journal = journal;
+	}
+
+	/**
+	 * Return the journal in which this facade records its calls.
+	 */
+	public CommandJournal getJournal() {
+		return this.journal;
+	}
+
+	/**
+	 * Variable referencing the journal in which this facade records its calls.
+	 */
+	private final CommandJournal journal;
+
+	@Override
+	public Ship createShip() throws ModelException {
+		Ship ship = super.createShip();
+		try {
+			journal.recordCreateShip(ship);
+		}
+		catch (IOException exc) {
+			throw createModelException(exc);
+		}
+		return ship;
+	}
+
+	@Override
+	public Ship createShip(double x, double y, double xVelocity, double yVelocity, double radius, double orientation)
+			throws ModelException {
+		Ship ship = super.createShip(x, y, xVelocity, yVelocity, radius, orientation);
+		try {
+			journal.recordCreateShip(ship);
+		}
+		catch (IOException exc) {
+			throw createModelException(exc);
+		}
+		return ship;
+	}
+
+	@Override
+	public void move(Ship ship, double dt) throws ModelException {
+		checkKnownShip(ship);
+		super.move(ship, dt);
+		record(CommandJournal.MOVE, ship, dt);
+	}
+
+	/**
+	 * Move each ship in <code>ships</code> like Facade.moveAll, and record each move that succeeds.
+	 * Ships that were not created through this facade are not moved, and get STATUS_ILLEGAL_ARGUMENT.
+	 */
+	@Override
+	public int moveAll(Ship[] ships, double dt, int[] status) throws ModelException {
+		if (ships == null)
+			throw createModelException("No ships!");
+		Ship[] knownShips = new Ship[ships.length];
+		for (int i = 0; i < ships.length; i++)
+			if (journal.isKnownShip(ships[i]))
+				knownShips[i] = ships[i];
+		int nbFailures = super.moveAll(knownShips, dt, status);
+		for (int i = 0; i < ships.length; i++)
+			if (status[i] == STATUS_OK)
+				record(CommandJournal.MOVE, ships[i], dt);
+		return nbFailures;
+	}
+
+	@Override
+	public void thrust(Ship ship, double amount) throws ModelException {
+		checkKnownShip(ship);
+		super.thrust(ship, amount);
+		record(CommandJournal.THRUST, ship, amount);
+	}
+
+	@Override
+	public void turn(Ship ship, double angle) throws ModelException {
+		checkKnownShip(ship);
+		super.turn(ship, angle);
+		record(CommandJournal.TURN, ship, angle);
+	}
+
+	/**
+	 * Check that the given ship was created through this facade.
+	 */
+	private void checkKnownShip(Ship ship) throws ModelException {
+		if (! journal.isKnownShip(ship))
+			throw createModelException("Unknown ship!");
+	}
+
+	/**
+	 * Record the command with the given opcode and argument for the given ship.
+	 */
+	private void record(byte opcode, Ship ship, double argument) throws ModelException {
+		try {
+			journal.recordCommand(opcode, ship, argument);
+		}
+		catch (IOException exc) {
+			throw createModelException(exc);
+		}
+	}
+}
@@ -0,0 +1,206 @@
+package asteroids.model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A class of histograms of latencies in nanoseconds, that can be updated by several threads at once.
+ *
+ * Like an HDR histogram, each power of two is split into SUB_BUCKETS buckets of equal width, so the
+ * value reported for a percentile is within 1/SUB_BUCKETS of the true value, from one nanosecond up to
+ * Long.MAX_VALUE nanoseconds, using a fixed amount of memory. Recording a value takes constant time
+ * and no locks.
+ *
+ * Like a LongAdder, the buckets are split over several stripes, which are only created once a thread
+ * records into them. Each thread records into the stripe selected by its id, so threads recording at
+ * the same time rarely update the same counters, and the stripes are summed when the histogram is read.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Constant registering the number of bits that select a bucket within a power of two.
+	 */
+	private static final int SUB_BUCKET_BITS = 4;
+
+	/**
+	 * Constant registering the number of buckets into which each power of two is split.
+	 */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/**
+	 * Constant registering the number of buckets of each stripe.
+	 */
+	private static final int NB_BUCKETS = getBucket(Long.MAX_VALUE) + 1;
+
+	/**
+	 * Constant registering the number of stripes, which is the smallest power of two that is at least
+	 * the number of available processors, up to 64.
+	 */
+	private static final int NB_STRIPES =
+			Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1));
+
+	/**
+	 * Initialize this new histogram without any values.
+	 *
+	 * @post   | new.getCount() == 0
+	 */
+	public LatencyHistogram() {
+	}
+
+
+	/**
+	 * Record the given latency in this histogram. Negative latencies are recorded as zero.
+	 *
+	 * @param  nanos
+	 * 			The latency to record.
+	 * @post   | new.getCount() == getCount() + 1
+	 */
+	public void record(long nanos) {
+		if (nanos < 0)
+			nanos = 0;
+		getStripe((int) Thread.currentThread().getId() & (NB_STRIPES - 1)).incrementAndGet(getBucket(nanos));
+		count.increment();
+		sum.add(nanos);
+		max.accumulate(nanos);
+	}
+
+	/**
+	 * Return the stripe with the given index, creating it if it does not exist yet.
+	 */
+	private AtomicLongArray getStripe(int index) {
+		AtomicLongArray stripe = stripes.get(index);
+		if (stripe == null) {
+			stripes.compareAndSet(index, null, new AtomicLongArray(NB_BUCKETS));
+			stripe = stripes.get(index);
+		}
+		return stripe;
+	}
+
+	/**
+	 * Return the index of the bucket of the given non-negative value.
+	 */
+	private static int getBucket(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+		int magnitude = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * Return the smallest value in the bucket with the given index.
+	 */
+	private static long getLowestValue(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+		int magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		return ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << (magnitude - SUB_BUCKET_BITS);
+	}
+
+	/**
+	 * Return the number of latencies recorded in this histogram.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Return the mean of the latencies recorded in this histogram, or zero if there are none.
+	 */
+	public double getMean() {
+		long count = getCount();
+		return (count == 0) ? 0 : (double) sum.sum() / count;
+	}
+
+	/**
+	 * Return the largest latency recorded in this histogram, or zero if there are none.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Return an estimate of the given percentile of the latencies recorded in this histogram.
+	 *
+	 * @param  percentile
+	 * 			The percentile to estimate, between 0 and 100.
+	 * @return Zero if there are no latencies. Otherwise, the smallest value of the bucket in which the
+	 * 			latency at the given percentile falls.
+	 * @throws IllegalArgumentException
+	 * 			| ! ((0 <= percentile) && (percentile <= 100))
+	 */
+	public long getPercentile(double percentile) throws IllegalArgumentException {
+		if (! ((0 <= percentile) && (percentile <= 100)))
+			throw new IllegalArgumentException();
+		long[] buckets = new long[NB_BUCKETS];
+		long total = 0;
+		for (int index = 0; index < NB_STRIPES; index++) {
+			AtomicLongArray stripe = stripes.get(index);
+			if (stripe != null)
+				for (int i = 0; i < NB_BUCKETS; i++) {
+					long bucketCount = stripe.get(i);
+					buckets[i] += bucketCount;
+					total += bucketCount;
+				}
+		}
+		if (total == 0)
+			return 0;
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < NB_BUCKETS; i++) {
+			seen += buckets[i];
+			if (seen >= rank)
+				return getLowestValue(i);
+		}
+		return getMax();
+	}
+
+	/**
+	 * Remove all latencies from this histogram.
+	 *
+	 * @post   | new.getCount() == 0
+	 */
+	public void reset() {
+		for (int index = 0; index < NB_STRIPES; index++) {
+			AtomicLongArray stripe = stripes.get(index);
+			if (stripe != null)
+				for (int i = 0; i < NB_BUCKETS; i++)
+					stripe.set(i, 0);
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	/**
+	 * Variable referencing the stripes of this histogram, each registering the number of latencies recorded
+	 * in each bucket by the threads that record into it, or null if no thread recorded into it yet.
+	 */
+	private final AtomicReferenceArray<AtomicLongArray> stripes = new AtomicReferenceArray<AtomicLongArray>(NB_STRIPES);
+
+	/**
+	 * Variable referencing the number of latencies recorded.
+	 */
+	private final LongAdder count = new LongAdder();
+
+	/**
+	 * Variable referencing the sum of the latencies recorded.
+	 */
+	private final LongAdder sum = new LongAdder();
+
+	/**
+	 * Variable referencing the largest latency recorded.
+	 */
+	private final LongAccumulator max = new LongAccumulator(new LongBinaryOperator() {
+		@Override
+		public long applyAsLong(long left, long right) {
+			return Math.max(left, right);
+		}
+	}, 0);
+}
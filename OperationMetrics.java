@@ -0,0 +1,70 @@
+package asteroids.model;
+
+/**
+ * A class of metrics counting the invocations of an operation on ships and the time they take.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+	/**
+	 * Initialize these new metrics without any invocations.
+	 */
+	OperationMetrics() {
+	}
+
+	/**
+	 * Record an invocation that took the given number of nanoseconds.
+	 */
+	void record(long nanos) {
+		histogram.record(nanos);
+	}
+
+	/**
+	 * Return the histogram of the durations of the invocations.
+	 */
+	public LatencyHistogram getHistogram() {
+		return this.histogram;
+	}
+
+	/**
+	 * Variable referencing the histogram of the durations of the invocations.
+	 */
+	private final LatencyHistogram histogram = new LatencyHistogram();
+
+	@Override
+	public long getCount() {
+		return histogram.getCount();
+	}
+
+	@Override
+	public double getMeanNanos() {
+		return histogram.getMean();
+	}
+
+	@Override
+	public long getMedianNanos() {
+		return histogram.getPercentile(50);
+	}
+
+	@Override
+	public long getP99Nanos() {
+		return histogram.getPercentile(99);
+	}
+
+	@Override
+	public long getP999Nanos() {
+		return histogram.getPercentile(99.9);
+	}
+
+	@Override
+	public long getMaxNanos() {
+		return histogram.getMax();
+	}
+
+	@Override
+	public void reset() {
+		histogram.reset();
+	}
+}
@@ -0,0 +1,24 @@
+package asteroids.model;
+
+/**
+ * The management interface of the metrics of a single operation on ships.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public interface OperationMetricsMBean {
+
+	long getCount();
+
+	double getMeanNanos();
+
+	long getMedianNanos();
+
+	long getP99Nanos();
+
+	long getP999Nanos();
+
+	long getMaxNanos();
+
+	void reset();
+}
@@ -10,8 +10,40 @@ public class OverlapException extends RuntimeException {
 	
 	private static final long serialVersionUID = 1L;
 	
+	/**
+	 * Initialize this new OverlapException.
+	 * 
+	 * @post   This new exception has a stack trace iff production mode is disabled.
+	 */
 	public OverlapException() {
-		super();
+		super(null, null, true, ! ProductionMode.isEnabled());
+	}
+	
+	/**
+	 * Return an OverlapException to be thrown.
+	 * 
+	 * @return In production mode, a shared instance without a stack trace. Otherwise, a new instance.
+	 * @effect The overlap is counted in the ship metrics.
+	 * 			| ShipMetrics.countOverlap()
+	 */
+	public static OverlapException getInstance() {
+		ShipMetrics.countOverlap();
+		if (ProductionMode.isEnabled())
+			return SHARED_INSTANCE;
+		return new OverlapException();
+	}
+	
+	/**
+	 * Constant referencing the instance shared in production mode.
+	 */
+	private static final OverlapException SHARED_INSTANCE = new OverlapException(false);
+	
+	/**
+	 * Initialize this new OverlapException, without a stack trace if so requested, and without
+	 * suppressed exceptions, since the shared instance may be thrown by several threads at once.
+	 */
+	private OverlapException(boolean writableStackTrace) {
+		super(null, null, false, writableStackTrace);
 	}
 
 }
@@ -71,7 +71,7 @@ public class Position {
 	@Raw
 	public void setxCoordinate(double xCoordinate) throws IllegalCoordinateException {
 		if (! isValidCoordinate(xCoordinate))
-			throw new IllegalCoordinateException();
+			throw IllegalCoordinateException.getInstance();
 		this.xCoordinate = xCoordinate;
 	}
 	
@@ -103,7 +103,7 @@ public class Position {
 	@Raw
 	public void setyCoordinate(double yCoordinate) throws IllegalCoordinateException {
 		if (! isValidCoordinate(yCoordinate))
-			throw new IllegalCoordinateException();
+			throw IllegalCoordinateException.getInstance();
 		this.yCoordinate = yCoordinate;
 	}
 	
@@ -0,0 +1,45 @@
+package asteroids.model;
+
+/**
+ * A class controlling whether the model runs in production mode.
+ *
+ * In production mode, the exceptions of the model are shared instances without a stack trace,
+ * so that signaling an invalid input costs no more than an ordinary return. Outside production
+ * mode, every exception is a new object with a full stack trace, which is easier to debug.
+ *
+ * Production mode is initially enabled iff the system property "asteroids.production" is "true".
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public final class ProductionMode {
+
+	/**
+	 * This class only offers static methods.
+	 */
+	private ProductionMode() {
+	}
+
+	/**
+	 * Check whether production mode is enabled.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Enable or disable production mode.
+	 *
+	 * @param  enabled
+	 * 			Whether production mode must be enabled.
+	 * @post   | isEnabled() == enabled
+	 */
+	public static void setEnabled(boolean enabled) {
+		ProductionMode.enabled = enabled;
+	}
+
+	/**
+	 * Variable registering whether production mode is enabled.
+	 */
+	private static volatile boolean enabled = Boolean.getBoolean("asteroids.production");
+}
@@ -57,7 +57,7 @@ public class Ship {
 	public Ship(double xCoordinate, double yCoordinate, double xComponent, double yComponent, 
 								double radius, double orientation) throws IllegalCoordinateException, IllegalRadiusException {
 		if (! isValidRadius(radius))
-			throw new IllegalRadiusException();
+			throw IllegalRadiusException.getInstance();
 		this.radius = radius;
 		setPosition(xCoordinate, yCoordinate);
 		setVelocity(xComponent, yComponent);
@@ -86,8 +86,7 @@ public class Ship {
 	 */
 	@Override
 	public Ship clone() {
-		return new Ship(getPosition().getxCoordinate(), getPosition().getyCoordinate(), getVelocity().getxComponent(),
-				getVelocity().getyComponent(), getRadius(), getOrientation());
+		return new Ship(getxCoordinate(), getyCoordinate(), getxVelocity(), getyVelocity(), getRadius(), getOrientation());
 	}
 	
 	
@@ -96,7 +95,41 @@ public class Ship {
 	 */
 	@Basic @Raw
 	public Position getPosition() {
-		return this.position.clone();
+		return this.position.toPosition();
+	}
+	
+	/**
+	 * Return the position of this ship as an immutable position.
+	 * 
+	 * @return The position of this ship, which can be shared without copying it.
+	 * 			| (result.getxCoordinate() == getPosition().getxCoordinate()) &&
+	 * 			|	(result.getyCoordinate() == getPosition().getyCoordinate())
+	 */
+	@Raw
+	public ImmutablePosition getImmutablePosition() {
+		return this.position;
+	}
+	
+	/**
+	 * Return the xCoordinate of the position of this ship.
+	 * 
+	 * @return The xCoordinate of the position of this ship, without copying that position.
+	 * 			| result == getPosition().getxCoordinate()
+	 */
+	@Raw
+	public double getxCoordinate() {
+		return this.position.getxCoordinate();
+	}
+	
+	/**
+	 * Return the yCoordinate of the position of this ship.
+	 * 
+	 * @return The yCoordinate of the position of this ship, without copying that position.
+	 * 			| result == getPosition().getyCoordinate()
+	 */
+	@Raw
+	public double getyCoordinate() {
+		return this.position.getyCoordinate();
 	}
 	
 	/**
@@ -119,17 +152,22 @@ public class Ship {
 	 * 			The length of the time interval during which the ship is moved.
 	 * @effect Each new coordinate of the position of this ship is set to the sum of the old coordinate
 	 * 			and the given duration times the corresponding component of the velocity of this ship.
-	 * 			| setPosition(getPosition().getxCoordinate() + duration * getVelocity().getxComponent(),
-	 * 			|				getPosition().getyCoordinate() + duration * getVelocity().getyComponent())
+	 * 			| setPosition(getxCoordinate() + duration * getxVelocity(),
+	 * 			|				getyCoordinate() + duration * getyVelocity())
 	 * @throws IllegalArgumentException
 	 * 			The given duration is strictly less than 0.
 	 * 			| duration < 0
 	 */
 	public void move(double duration) throws IllegalArgumentException, IllegalCoordinateException {
-		if (duration < 0)
-			throw new IllegalArgumentException();
-		setPosition(getPosition().getxCoordinate() + duration * getVelocity().getxComponent(),
-				getPosition().getyCoordinate() + duration * getVelocity().getyComponent());
+		long startTime = ShipMetrics.start();
+		try {
+			if (duration < 0)
+				throw new IllegalArgumentException();
+			setPosition(getxCoordinate() + duration * getxVelocity(), getyCoordinate() + duration * getyVelocity());
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.MOVE, startTime);
+		}
 	}
 	
 	
@@ -144,26 +182,22 @@ public class Ship {
 	 *       | new.getPosition().getxCoordinate() == xCoordinate
 	 * @post   The yCoordinate of the position of this new ship is equal to the given yCoordinate.
 	 *       | new.getPosition().getyCoordinate() == yCoordinate
+	 * @post   The number of modifications of this ship is incremented by 1.
+	 *       | new.getNbModifications() == getNbModifications() + 1
 	 * @throws IllegalCoordinateException
 	 * 		   One of the given coordinates is not valid
 	 * 		 | ! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate)
 	 */
 	@Raw @Model
 	private void setPosition(double xCoordinate, double yCoordinate) throws IllegalCoordinateException {
-		try {
-			this.position.setPosition(xCoordinate, yCoordinate);
-		}
-		catch(NullPointerException exc) {
-			// For the moment, a NullPointerException will only be thrown if this 
-			//  method is used within a constructor of the Ship class.
-			this.position = new Position(xCoordinate, yCoordinate);
-		}
+		this.position = new ImmutablePosition(xCoordinate, yCoordinate);
+		this.nbModifications++;
 	}
 	
 	/**
 	 * Variable registering the position of this ship.
 	 */
-	private Position position;
+	private ImmutablePosition position;
 	
 	
 	/**
@@ -194,7 +228,13 @@ public class Ship {
 	 * 			| setOrientation(getOrientation() + angle)
 	 */
 	public void turn(double angle) {
-		setOrientation(getOrientation() + angle);
+		long startTime = ShipMetrics.start();
+		try {
+			setOrientation(getOrientation() + angle);
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.TURN, startTime);
+		}
 	}
 	
 	/**
@@ -206,11 +246,14 @@ public class Ship {
 	 *       | isValidOrientation(orientation)
 	 * @post   The orientation of this ship is equal to the given orientation.
 	 *       | new.getOrientation() == orientation
+	 * @post   The number of modifications of this ship is incremented by 1.
+	 *       | new.getNbModifications() == getNbModifications() + 1
 	 */	
 	@Raw @Model
 	private void setOrientation(double orientation) {
 		assert isValidOrientation(orientation);
 		this.orientation = orientation;
+		this.nbModifications++;
 	}
 	
 	/**
@@ -296,7 +339,41 @@ public class Ship {
 	public Velocity getVelocity() {
 		if (this.velocity == null)
 			return null;
-		return this.velocity.clone();
+		return this.velocity.toVelocity();
+	}
+	
+	/**
+	 * Return the velocity of this ship as an immutable velocity.
+	 * 
+	 * @return The velocity of this ship, which can be shared without copying it.
+	 * 			| (result.getxComponent() == getVelocity().getxComponent()) &&
+	 * 			|	(result.getyComponent() == getVelocity().getyComponent())
+	 */
+	@Raw
+	public ImmutableVelocity getImmutableVelocity() {
+		return this.velocity;
+	}
+	
+	/**
+	 * Return the xComponent of the velocity of this ship.
+	 * 
+	 * @return The xComponent of the velocity of this ship, without copying that velocity.
+	 * 			| result == getVelocity().getxComponent()
+	 */
+	@Raw
+	public double getxVelocity() {
+		return this.velocity.getxComponent();
+	}
+	
+	/**
+	 * Return the yComponent of the velocity of this ship.
+	 * 
+	 * @return The yComponent of the velocity of this ship, without copying that velocity.
+	 * 			| result == getVelocity().getyComponent()
+	 */
+	@Raw
+	public double getyVelocity() {
+		return this.velocity.getyComponent();
 	}
 	
 	/**
@@ -312,9 +389,22 @@ public class Ship {
 	public boolean canHaveAsVelocity(Velocity velocity) {
 		if (velocity == null)
 			return false;
-		if (Math.hypot(velocity.getxComponent(), velocity.getyComponent()) > getSpeedLimit())
-			return false;
-		return true;
+		return canHaveAsVelocity(velocity.getxComponent(), velocity.getyComponent());
+	}
+	
+	/**
+	 * Check whether this ship can have the velocity with the given components as its velocity,
+	 * without creating that velocity.
+	 * 
+	 * @param  xComponent
+	 *         The xComponent of the velocity to check.
+	 * @param  yComponent
+	 *         The yComponent of the velocity to check.
+	 * @return true iff the speed associated with the given components does not exceed the speedLimit of this ship.
+	 *       | result == (Math.hypot(xComponent, yComponent) <= getSpeedLimit())
+	 */
+	public boolean canHaveAsVelocity(double xComponent, double yComponent) {
+		return Math.hypot(xComponent, yComponent) <= getSpeedLimit();
 	}
 	
 	/**
@@ -326,14 +416,20 @@ public class Ship {
 	 * 			velocity of this ship is set to the sum of the current component
 	 * 			plus amount times the cosine (resp. sine) of the orientation of this ship.
 	 * 			| if (amount >= 0)
-	 * 			|	then setVelocity(getVelocity().getxComponent() + amount * Math.cos(getOrientation()),
-	 * 			|						getVelocity().getyComponent() + amount * Math.sin(getOrientation()))
+	 * 			|	then setVelocity(getxVelocity() + amount * Math.cos(getOrientation()),
+	 * 			|						getyVelocity() + amount * Math.sin(getOrientation()))
 	 * 			
 	 */
 	public void thrust(double amount) {
-		if (amount >= 0)
-			setVelocity(getVelocity().getxComponent() + amount * Math.cos(getOrientation()),
-					 	getVelocity().getyComponent() + amount * Math.sin(getOrientation()));
+		long startTime = ShipMetrics.start();
+		try {
+			if (amount >= 0)
+				setVelocity(getxVelocity() + amount * Math.cos(getOrientation()),
+						 	getyVelocity() + amount * Math.sin(getOrientation()));
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.THRUST, startTime);
+		}
 	}
 	
 	/**
@@ -343,39 +439,55 @@ public class Ship {
 	 *         The new xComponent for the velocity for this ship.
 	 * @param  yComponent
 	 *         The new yComponent for the velocity for this ship.
-	 * @post   If this ship can have the velocity with the given xComponent and  given yComponent as its velocity, 
-	 * 			then the xComponent of the velocity of this new ship is equal to the given xComponent,
-	 * 			and the yComponent of the velocity of this new ship is equal to the given yComponent.
-	 *       | if (this.canHaveAsVelocity(new Velocity(xComponent,yComponent))
-	 *       | 		then (new.getVelocity().getxComponent() == xComponent)
-	 *       |			&& (new.getVelocity().getyComponent() == yComponent)
-	 * @post   If this ship cannot have the velocity with the given xComponent and  given yComponent as its velocity,
-	 * 			the new velocity of this ship is set to a velocity such that the direction corresponds with the
-	 *			velocity with given xComponent and yComponent, but the speed is set to the speedLimit. More concretely,
-	 *			the xComponent of the new velocity of this ship is set to (xComponent * getSpeedLimit() / speed) and the
-	 *			yComponent of the new velocity of this ship is set to (yComponent * getSpeedLimit() / speed), where
-	 *			speed is the speed corresponding to the velocity with given xComponent and yComponent.
-	 *		 | if (! this.canHaveAsVelocity(new Velocity(xComponent, yComponent))
-	 *		 | 		then (new.getVelocity().getxComponent() == xComponent * getSpeedLimit / Math.hypot(xComponent, yComponent))
-	 *		 |			&& (new.getVelocity().getyComponent() == yComponent * getSpeedLimit / Math.hypot(xComponent, yComponent))
+	 * @post   Each given component that is not a valid component is replaced by the corresponding component of the
+	 * 			current velocity of this ship, or by zero if this ship has no velocity yet. The resulting components
+	 * 			are called the effective xComponent and the effective yComponent.
+	 *       | xEffective == (Velocity.isValidComponent(xComponent) ? xComponent :
+	 *       |			((getVelocity() == null) ? 0 : getVelocity().getxComponent()))
+	 *       | yEffective == (Velocity.isValidComponent(yComponent) ? yComponent :
+	 *       |			((getVelocity() == null) ? 0 : getVelocity().getyComponent()))
+	 * @post   If this ship can have the velocity with the effective xComponent and the effective yComponent as its
+	 * 			velocity, then the xComponent of the velocity of this new ship is equal to the effective xComponent,
+	 * 			and the yComponent of the velocity of this new ship is equal to the effective yComponent.
+	 *       | if (this.canHaveAsVelocity(xEffective, yEffective))
+	 *       | 		then (new.getVelocity().getxComponent() == xEffective)
+	 *       |			&& (new.getVelocity().getyComponent() == yEffective)
+	 * @post   If this ship cannot have the velocity with the effective xComponent and the effective yComponent as its
+	 * 			velocity, the new velocity of this ship is set to a velocity such that the direction corresponds with the
+	 *			velocity with the effective xComponent and yComponent, but the speed is set to the speedLimit. More concretely,
+	 *			the xComponent of the new velocity of this ship is set to (xEffective * getSpeedLimit() / speed) and the
+	 *			yComponent of the new velocity of this ship is set to (yEffective * getSpeedLimit() / speed), where
+	 *			speed is the speed corresponding to the velocity with the effective xComponent and yComponent.
+	 *		 | if (! this.canHaveAsVelocity(xEffective, yEffective))
+	 *		 | 		then (new.getVelocity().getxComponent() == xEffective * getSpeedLimit() / Math.hypot(xEffective, yEffective))
+	 *		 |			&& (new.getVelocity().getyComponent() == yEffective * getSpeedLimit() / Math.hypot(xEffective, yEffective))
+	 * @post   The number of modifications of this ship is incremented by 1.
+	 *       | new.getNbModifications() == getNbModifications() + 1
 	 */
 	@Raw @Model
-	private void setVelocity(double xComponent, double yComponent) {
-		if (this.getVelocity() == null)
-			this.velocity = new Velocity(0, 0);
-		if (this.canHaveAsVelocity(new Velocity(xComponent, yComponent)))
-			this.velocity.setVelocity(xComponent, yComponent);
+	void setVelocity(double xComponent, double yComponent) {
+		if (this.velocity == null)
+			this.velocity = ImmutableVelocity.ZERO;
+		// An invalid component leaves the corresponding component of the current velocity unchanged,
+		//  just like Velocity.setVelocity does.
+		if (! Velocity.isValidComponent(xComponent))
+			xComponent = this.velocity.getxComponent();
+		if (! Velocity.isValidComponent(yComponent))
+			yComponent = this.velocity.getyComponent();
+		if (canHaveAsVelocity(xComponent, yComponent))
+			this.velocity = new ImmutableVelocity(xComponent, yComponent);
 		else {
 			double speed = Math.hypot(xComponent, yComponent);
-			this.velocity.setxComponent(xComponent * getSpeedLimit() / speed);
-			this.velocity.setyComponent(yComponent * getSpeedLimit() / speed);
+			this.velocity = new ImmutableVelocity(xComponent * getSpeedLimit() / speed, yComponent * getSpeedLimit() / speed);
+			ShipMetrics.countSpeedLimitClamp();
 		}
+		this.nbModifications++;
 	}
 	
 	/**
 	 * Variable registering the velocity of this ship.
 	 */
-	private Velocity velocity;
+	private ImmutableVelocity velocity;
 	
 	
 	/**
@@ -411,6 +523,23 @@ public class Ship {
 	public static final double SPEED_OF_LIGHT = 300000;
 	
 	
+	/**
+	 * Return the number of times the position, velocity or orientation of this ship has been set.
+	 * 
+	 * Observers that remember this number can detect whether the state of this ship has changed
+	 * since they last looked at it, without comparing the state itself.
+	 */
+	@Basic @Raw
+	public long getNbModifications() {
+		return this.nbModifications;
+	}
+	
+	/**
+	 * Variable registering the number of times the position, velocity or orientation of this ship has been set.
+	 */
+	private long nbModifications = 0;
+	
+	
 	/**
 	 * Calculate the distance between two ships
 	 * @param ship1
@@ -431,7 +560,8 @@ public class Ship {
 	public static double getDistanceBetween(Ship ship1, Ship ship2) throws NullPointerException{
 		if ((ship1 != null) && (ship1 == ship2))
 			return 0;
-		return Position.getDistanceBetween(ship1.getPosition(), ship2.getPosition()) - (ship1.getRadius() + ship2.getRadius());
+		return Math.hypot(ship1.getxCoordinate() - ship2.getxCoordinate(), ship1.getyCoordinate() - ship2.getyCoordinate())
+				- (ship1.getRadius() + ship2.getRadius());
 	}
 	
 	/**
@@ -480,25 +610,68 @@ public class Ship {
 	 * 			| overlap(ship1, ship2)
 	 */
 	public static double getTimeToCollision(Ship ship1, Ship ship2) throws NullPointerException, OverlapException {
+		double timeToCollision = getTimeToCollisionOrNaN(ship1, ship2);
+		if (Double.isNaN(timeToCollision))
+			throw OverlapException.getInstance();
+		return timeToCollision;
+	}
+	
+	/**
+	 * Determine the time after which, if ever, two ships will collide, without throwing an exception
+	 * if they overlap.
+	 * 
+	 * Each prediction, including those of getTimeToCollision and getCollisionPositionOrNull, may be recorded
+	 * as an "asteroids.CollisionPrediction" event of the flight recorder.
+	 * 
+	 * @param ship1
+	 * 			The first ship
+	 * @param ship2
+	 * 			The second ship
+	 * @return If the ships overlap, Double.NaN.
+	 * 			| if (overlap(ship1, ship2))
+	 * 			|	then Double.isNaN(result)
+	 * @return If the ships do not overlap, the time after which they will collide, or Double.POSITIVE_INFINITY
+	 * 			if they never collide.
+	 * 			| if (! overlap(ship1, ship2))
+	 * 			|	then result == getTimeToCollision(ship1, ship2)
+	 * @throws NullPointerException
+	 * 			One of the ships is non-effective.
+	 * 			|	(ship1 == null) || (ship2 == null)
+	 */
+	public static double getTimeToCollisionOrNaN(Ship ship1, Ship ship2) throws NullPointerException {
+		long startTime = ShipMetrics.start();
+		CollisionPredictionEvent event = new CollisionPredictionEvent();
+		event.begin();
+		try {
+			double timeToCollision = computeTimeToCollision(ship1, ship2);
+			event.commit(ship1, ship2, timeToCollision);
+			return timeToCollision;
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.TIME_TO_COLLISION, startTime);
+		}
+	}
+	
+	/**
+	 * Determine the time after which, if ever, two ships will collide, or Double.NaN if they overlap,
+	 * without recording metrics.
+	 */
+	private static double computeTimeToCollision(Ship ship1, Ship ship2) throws NullPointerException {
 		if (overlap(ship1, ship2))
-			throw new OverlapException();
-		
-		double dx, dy, dvx, dvy, discriminant, sumOfRadii, dvDotdr;
-		dx = ship1.getPosition().getxCoordinate() - ship2.getPosition().getxCoordinate();
-		dy = ship1.getPosition().getyCoordinate() - ship2.getPosition().getyCoordinate();
-		dvx = ship1.getVelocity().getxComponent() - ship2.getVelocity().getxComponent();
-		dvy = ship1.getVelocity().getyComponent() - ship2.getVelocity().getyComponent();
-		sumOfRadii = ship1.getRadius() + ship2.getRadius();
-		dvDotdr = dvx * dx + dvy * dy;
-		
-		if (dvDotdr >= 0)
-			return Double.POSITIVE_INFINITY;
-		
-		discriminant = Math.pow(dvDotdr, 2) - Math.pow(Math.hypot(dvx, dvy), 2) *
-							(Math.pow(Math.hypot(dx, dy),  2) - Math.pow(sumOfRadii, 2));
-		if (discriminant <= 0)
-			return Double.POSITIVE_INFINITY;
-		return - (dvDotdr + Math.sqrt(discriminant)) / Math.pow(Math.hypot(dvx, dvy), 2);
+			return Double.NaN;
+		return solveTimeToCollision(ship1.getxCoordinate() - ship2.getxCoordinate(),
+				ship1.getyCoordinate() - ship2.getyCoordinate(), ship1.getxVelocity() - ship2.getxVelocity(),
+				ship1.getyVelocity() - ship2.getyVelocity(), ship1.getRadius() + ship2.getRadius());
+	}
+	
+	/**
+	 * Return the time after which two non-overlapping circles touch, given the differences between their centres
+	 * and between their velocities and the sum of their radii, or Double.POSITIVE_INFINITY if they never touch.
+	 * 
+	 * @see CollisionSolver
+	 */
+	private static double solveTimeToCollision(double dx, double dy, double dvx, double dvy, double sumOfRadii) {
+		return CollisionSolver.getSelected().solve(dx, dy, dvx, dvy, sumOfRadii);
 	}
 	
 	/**
@@ -530,27 +703,281 @@ public class Ship {
 	 */
 	public static Position getCollisionPosition(Ship ship1, Ship ship2) throws NullPointerException, OverlapException{
 		if (overlap(ship1, ship2))
-			throw new OverlapException();
-		
-		double timeToCollision = getTimeToCollision(ship1, ship2);
-		if (timeToCollision == Double.POSITIVE_INFINITY)
+			throw OverlapException.getInstance();
+		ImmutablePosition collisionPosition = getCollisionPositionOrNull(ship1, ship2);
+		if (collisionPosition == null)
+			return null;
+		return collisionPosition.toPosition();
+	}
+	
+	/**
+	 * Determine the position where, if ever, two ships will collide, and write it into the given position.
+	 * 
+	 * Unlike getCollisionPosition(Ship, Ship), this method neither creates ships nor positions, so that it
+	 * can be used in bulk workloads with a single position owned by the caller.
+	 * 
+	 * @param ship1
+	 * 			The first ship.
+	 * @param ship2
+	 * 			The second ship.
+	 * @param out
+	 * 			The position into which the collision position must be written.
+	 * @return True iff the ships will collide.
+	 * 			| result == (getCollisionPosition(ship1, ship2) != null)
+	 * @effect If the ships will collide, the given position is set to the position where they collide.
+	 * 			| if (result)
+	 * 			|	then out.setPosition(getCollisionPosition(ship1, ship2).getxCoordinate(),
+	 * 			|		getCollisionPosition(ship1, ship2).getyCoordinate())
+	 * @throws NullPointerException
+	 * 			One of the ships or the given position is non-effective.
+	 * 			| (ship1 == null) || (ship2 == null) || (out == null)
+	 * @throws OverlapException
+	 * 			The ships overlap
+	 * 			| overlap(ship1, ship2)
+	 */
+	public static boolean getCollisionPosition(Ship ship1, Ship ship2, Position out) throws NullPointerException, OverlapException {
+		if (out == null)
+			throw new NullPointerException();
+		long startTime = ShipMetrics.start();
+		CollisionPredictionEvent event = new CollisionPredictionEvent();
+		event.positionRequested = true;
+		event.begin();
+		try {
+			double timeToCollision = computeTimeToCollision(ship1, ship2);
+			event.commit(ship1, ship2, timeToCollision);
+			if (Double.isNaN(timeToCollision))
+				throw OverlapException.getInstance();
+			if (timeToCollision == Double.POSITIVE_INFINITY)
+				return false;
+			double radius1 = ship1.getRadius(), radius2 = ship2.getRadius();
+			out.setPosition(getCollisionCoordinate(ship1.getxCoordinate(), ship1.getxVelocity(), radius1,
+							ship2.getxCoordinate(), ship2.getxVelocity(), radius2, radius1 + radius2, timeToCollision),
+					getCollisionCoordinate(ship1.getyCoordinate(), ship1.getyVelocity(), radius1,
+							ship2.getyCoordinate(), ship2.getyVelocity(), radius2, radius1 + radius2, timeToCollision));
+			return true;
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.COLLISION_POSITION, startTime);
+		}
+	}
+	
+	/**
+	 * Determine the time after which and the position where, if ever, two ships will collide, without
+	 * throwing an exception if they overlap, and write that position into the given array.
+	 * 
+	 * Like getCollisionPosition(Ship, Ship, Position), this method neither creates ships nor positions.
+	 * 
+	 * @param ship1
+	 * 			The first ship.
+	 * @param ship2
+	 * 			The second ship.
+	 * @param out
+	 * 			The array into which the collision position must be written, with the xCoordinate at
+	 * 			index 0 and the yCoordinate at index 1.
+	 * @return The time after which the ships collide, Double.POSITIVE_INFINITY if they never collide,
+	 * 			or Double.NaN if they overlap.
+	 * 			| result == getTimeToCollisionOrNaN(ship1, ship2)
+	 * @effect If the ships will collide, the given array is set to the position where they collide.
+	 * 			Otherwise, it is left unchanged.
+	 * 			| if (result < Double.POSITIVE_INFINITY)
+	 * 			|	then (out[0] == getCollisionPosition(ship1, ship2).getxCoordinate())
+	 * 			|		&& (out[1] == getCollisionPosition(ship1, ship2).getyCoordinate())
+	 * @throws NullPointerException
+	 * 			One of the ships or the given array is non-effective.
+	 * 			| (ship1 == null) || (ship2 == null) || (out == null)
+	 * @throws IllegalArgumentException
+	 * 			The given array has less than 2 elements.
+	 * 			| out.length < 2
+	 */
+	public static double predictCollisionOrNaN(Ship ship1, Ship ship2, double[] out)
+			throws NullPointerException, IllegalArgumentException {
+		if (out.length < 2)
+			throw new IllegalArgumentException();
+		long startTime = ShipMetrics.start();
+		CollisionPredictionEvent event = new CollisionPredictionEvent();
+		event.positionRequested = true;
+		event.begin();
+		try {
+			double timeToCollision = computeTimeToCollision(ship1, ship2);
+			event.commit(ship1, ship2, timeToCollision);
+			if (timeToCollision < Double.POSITIVE_INFINITY) {
+				double radius1 = ship1.getRadius(), radius2 = ship2.getRadius();
+				double xCoordinate = getCollisionCoordinate(ship1.getxCoordinate(), ship1.getxVelocity(), radius1,
+						ship2.getxCoordinate(), ship2.getxVelocity(), radius2, radius1 + radius2, timeToCollision);
+				double yCoordinate = getCollisionCoordinate(ship1.getyCoordinate(), ship1.getyVelocity(), radius1,
+						ship2.getyCoordinate(), ship2.getyVelocity(), radius2, radius1 + radius2, timeToCollision);
+				out[0] = xCoordinate;
+				out[1] = yCoordinate;
+			}
+			return timeToCollision;
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.COLLISION_POSITION, startTime);
+		}
+	}
+	
+	/**
+	 * Determine the position where, if ever, two ships will collide, without throwing an exception
+	 * if they overlap.
+	 * 
+	 * @param ship1
+	 * 			The first ship.
+	 * @param ship2
+	 * 			The second ship.
+	 * @return null, if the ships overlap or will never collide.
+	 * 			| if (! (getTimeToCollisionOrNaN(ship1, ship2) < Double.POSITIVE_INFINITY))
+	 * 			|	then result == null
+	 * @return Otherwise, the position where the ships will collide.
+	 * 			| if (getTimeToCollisionOrNaN(ship1, ship2) < Double.POSITIVE_INFINITY)
+	 * 			|	then (result.getxCoordinate() == getCollisionPosition(ship1, ship2).getxCoordinate())
+	 * 			|		&& (result.getyCoordinate() == getCollisionPosition(ship1, ship2).getyCoordinate())
+	 * @throws NullPointerException
+	 * 			One of the ships is non-effective.
+	 * 			| (ship1 == null) || (ship2 == null)
+	 */
+	public static ImmutablePosition getCollisionPositionOrNull(Ship ship1, Ship ship2) throws NullPointerException {
+		long startTime = ShipMetrics.start();
+		CollisionPredictionEvent event = new CollisionPredictionEvent();
+		event.positionRequested = true;
+		event.begin();
+		try {
+			Collision collision = computeCollision(ship1, ship2);
+			event.commit(ship1, ship2, collision);
+			return (collision == null) ? null : collision.getPosition();
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.COLLISION_POSITION, startTime);
+		}
+	}
+	
+	/**
+	 * Predict the collision between two ships, that is, both the time after which they collide and the position
+	 * where they touch, in a single pass over their state.
+	 * 
+	 * @param ship1
+	 * 			The first ship.
+	 * @param ship2
+	 * 			The second ship.
+	 * @return null, if the ships will not collide.
+	 * 			| if (getTimeToCollision(ship1, ship2) == Double.POSITIVE_INFINITY)
+	 * 			|	then result == null
+	 * @return Otherwise, the collision between both ships, at the time and position where they collide.
+	 * 			| if (getTimeToCollision(ship1, ship2) < Double.POSITIVE_INFINITY)
+	 * 			|	then (result.getShip1() == ship1) && (result.getShip2() == ship2)
+	 * 			|		&& (result.getTime() == getTimeToCollision(ship1, ship2))
+	 * 			|		&& (result.getPosition().getxCoordinate() == getCollisionPosition(ship1, ship2).getxCoordinate())
+	 * 			|		&& (result.getPosition().getyCoordinate() == getCollisionPosition(ship1, ship2).getyCoordinate())
+	 * @throws NullPointerException
+	 * 			One of the ships is non-effective.
+	 * 			| (ship1 == null) || (ship2 == null)
+	 * @throws OverlapException
+	 * 			The ships overlap
+	 * 			| overlap(ship1, ship2)
+	 */
+	public static Collision predictCollision(Ship ship1, Ship ship2) throws NullPointerException, OverlapException {
+		Collision collision = predictCollisionOrNull(ship1, ship2);
+		if ((collision == null) && overlap(ship1, ship2))
+			throw OverlapException.getInstance();
+		return collision;
+	}
+	
+	/**
+	 * Predict the collision between two ships in a single pass over their state, without throwing an exception
+	 * if they overlap.
+	 * 
+	 * @param ship1
+	 * 			The first ship.
+	 * @param ship2
+	 * 			The second ship.
+	 * @return null, if the ships overlap or will never collide.
+	 * 			| if (! (getTimeToCollisionOrNaN(ship1, ship2) < Double.POSITIVE_INFINITY))
+	 * 			|	then result == null
+	 * @return Otherwise, the predicted collision between both ships.
+	 * 			| if (getTimeToCollisionOrNaN(ship1, ship2) < Double.POSITIVE_INFINITY)
+	 * 			|	then result.equals(predictCollision(ship1, ship2))
+	 * @throws NullPointerException
+	 * 			One of the ships is non-effective.
+	 * 			| (ship1 == null) || (ship2 == null)
+	 */
+	public static Collision predictCollisionOrNull(Ship ship1, Ship ship2) throws NullPointerException {
+		long startTime = ShipMetrics.start();
+		CollisionPredictionEvent event = new CollisionPredictionEvent();
+		event.positionRequested = true;
+		event.begin();
+		try {
+			Collision collision = computeCollision(ship1, ship2);
+			event.commit(ship1, ship2, collision);
+			return collision;
+		}
+		finally {
+			ShipMetrics.stop(ShipMetrics.Operation.COLLISION_POSITION, startTime);
+		}
+	}
+	
+	/**
+	 * Predict the collision between two ships, or return null if they overlap or never collide, without
+	 * recording metrics.
+	 * 
+	 * The differences between the centres and velocities of both ships and the sum of their radii are
+	 * computed once, and serve both the overlap test and the solver. The position where both ships touch
+	 * is the point on the line between their centres at the time of the collision that divides it in the
+	 * ratio of their radii, which is computed directly from their current state.
+	 */
+	private static Collision computeCollision(Ship ship1, Ship ship2) throws NullPointerException, IllegalCoordinateException {
+		double x1 = ship1.getxCoordinate(), y1 = ship1.getyCoordinate();
+		double x2 = ship2.getxCoordinate(), y2 = ship2.getyCoordinate();
+		double dx = x1 - x2, dy = y1 - y2;
+		double radius1 = ship1.getRadius(), radius2 = ship2.getRadius();
+		double sumOfRadii = radius1 + radius2;
+		// Mirrors overlap(ship1, ship2), which also holds for a ship and itself.
+		if (Math.hypot(dx, dy) - sumOfRadii <= 0)
 			return null;
-		
-		Ship ship1Clone = ship1.clone();
-		Ship ship2Clone = ship2.clone();
-		ship1Clone.move(timeToCollision);
-		ship2Clone.move(timeToCollision);
-		
-		Position position1 = ship1Clone.getPosition();
-		Position position2 = ship2Clone.getPosition();
-		
-		double radius1 = ship1Clone.getRadius();
-		double radius2 = ship2Clone.getRadius();
+		double vx1 = ship1.getxVelocity(), vy1 = ship1.getyVelocity();
+		double vx2 = ship2.getxVelocity(), vy2 = ship2.getyVelocity();
+		double time = solveTimeToCollision(dx, dy, vx1 - vx2, vy1 - vy2, sumOfRadii);
+		if (time == Double.POSITIVE_INFINITY)
+			return null;
+		return getCollision(ship1, ship2, time);
+	}
+	
+	/**
+	 * Return the collision between two ships after the given time, as computed by getTimeToCollisionOrNaN,
+	 * with the position where both ships touch after moving during that time.
+	 * 
+	 * This lets callers that only need the position of some collisions compute the time of each collision
+	 * first, and interpolate the position only for the collisions they keep, without solving again.
+	 * 
+	 * @throws IllegalCoordinateException
+	 * 			The coordinate of one of the ships after the movement is not valid.
+	 */
+	static Collision getCollision(Ship ship1, Ship ship2, double time) throws IllegalCoordinateException {
+		double radius1 = ship1.getRadius(), radius2 = ship2.getRadius();
 		double sumOfRadii = radius1 + radius2;
-		
-		return new Position( (position1.getxCoordinate() * radius2 + position2.getxCoordinate() * radius1) / sumOfRadii, 
-				(position1.getyCoordinate() * radius2 + position2.getyCoordinate() * radius1) / sumOfRadii);
-		
+		return new Collision(ship1, ship2, time, new ImmutablePosition(
+				getCollisionCoordinate(ship1.getxCoordinate(), ship1.getxVelocity(), radius1,
+						ship2.getxCoordinate(), ship2.getxVelocity(), radius2, sumOfRadii, time),
+				getCollisionCoordinate(ship1.getyCoordinate(), ship1.getyVelocity(), radius1,
+						ship2.getyCoordinate(), ship2.getyVelocity(), radius2, sumOfRadii, time)));
+	}
+	
+	/**
+	 * Return a coordinate of the point where two ships touch after moving during the given time, given the
+	 * corresponding coordinates and velocity components of both ships and their radii.
+	 * 
+	 * The coordinates after the movement are computed directly rather than by moving clones, so that predicting
+	 * a collision neither creates ships nor is recorded as two moves in the ship metrics.
+	 * 
+	 * @throws IllegalCoordinateException
+	 * 			The coordinate of one of the ships after the movement is not valid.
+	 */
+	private static double getCollisionCoordinate(double coordinate1, double velocity1, double radius1,
+			double coordinate2, double velocity2, double radius2, double sumOfRadii, double time)
+			throws IllegalCoordinateException {
+		double newCoordinate1 = coordinate1 + time * velocity1;
+		double newCoordinate2 = coordinate2 + time * velocity2;
+		if (! Position.isValidCoordinate(newCoordinate1) || ! Position.isValidCoordinate(newCoordinate2))
+			throw IllegalCoordinateException.getInstance();
+		return (newCoordinate1 * radius2 + newCoordinate2 * radius1) / sumOfRadii;
 	}
 	
 	
@@ -0,0 +1,144 @@
+package asteroids.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import asteroids.model.Ship;
+
+/**
+ * Benchmarks of the hot paths of the ship model.
+ *
+ * Each invocation handles the next ship (or pair of ships) of a randomized fleet, so that larger fleets
+ * also measure the effect of a working set that no longer fits in the caches.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ShipBenchmark {
+
+	/**
+	 * The number of ships in the fleet.
+	 */
+	@Param({"10", "1000", "100000"})
+	public int nbShips;
+
+	/**
+	 * The fleet of ships.
+	 */
+	private Ship[] fleet;
+
+	/**
+	 * The index of the next ship to handle.
+	 */
+	private int cursor = 0;
+
+	/**
+	 * Create a randomized fleet of the requested size.
+	 */
+	@Setup
+	public void setUp() {
+		fleet = createFleet(nbShips, 42);
+	}
+
+	/**
+	 * Return a fleet of the given number of ships, spread over a square in which about one pair in a hundred
+	 * overlaps, with random velocities and orientations.
+	 */
+	static Ship[] createFleet(int nbShips, long seed) {
+		Random random = new Random(seed);
+		double side = 200 * Math.sqrt(nbShips);
+		Ship[] fleet = new Ship[nbShips];
+		for (int i = 0; i < nbShips; i++)
+			fleet[i] = new Ship(random.nextDouble() * side, random.nextDouble() * side,
+					random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100,
+					10 + random.nextDouble() * 10, random.nextDouble() * Math.PI);
+		return fleet;
+	}
+
+	/**
+	 * Return the next ship of the fleet.
+	 */
+	private Ship nextShip() {
+		if (++cursor == fleet.length)
+			cursor = 0;
+		return fleet[cursor];
+	}
+
+	/**
+	 * Return the ship following the current ship in the fleet.
+	 */
+	private Ship followingShip() {
+		return fleet[(cursor + 1 == fleet.length) ? 0 : cursor + 1];
+	}
+
+	@Benchmark
+	public void move() {
+		nextShip().move(0.01);
+	}
+
+	@Benchmark
+	public void thrust() {
+		nextShip().thrust(1);
+	}
+
+	@Benchmark
+	public void turn() {
+		Ship ship = nextShip();
+		// Turning back and forth keeps the orientation valid.
+		ship.turn(0.5);
+		ship.turn(-0.5);
+	}
+
+	@Benchmark
+	public double getDistanceBetween() {
+		return Ship.getDistanceBetween(nextShip(), followingShip());
+	}
+
+	@Benchmark
+	public boolean overlap() {
+		return Ship.overlap(nextShip(), followingShip());
+	}
+
+	@Benchmark
+	public void getTimeToCollision(Blackhole blackhole) {
+		Ship ship1 = nextShip();
+		Ship ship2 = followingShip();
+		// Overlapping pairs are part of the workload, since they are common in real fleets.
+		try {
+			blackhole.consume(Ship.getTimeToCollision(ship1, ship2));
+		}
+		catch (RuntimeException exc) {
+			blackhole.consume(exc);
+		}
+	}
+
+	@Benchmark
+	public void getCollisionPosition(Blackhole blackhole) {
+		Ship ship1 = nextShip();
+		Ship ship2 = followingShip();
+		try {
+			blackhole.consume(Ship.getCollisionPosition(ship1, ship2));
+		}
+		catch (RuntimeException exc) {
+			blackhole.consume(exc);
+		}
+	}
+
+	@Benchmark
+	public Object predictCollision() {
+		return Ship.predictCollisionOrNull(nextShip(), followingShip());
+	}
+}
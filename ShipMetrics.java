@@ -0,0 +1,206 @@
+package asteroids.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * A class collecting metrics about the hot paths of the ship model.
+ *
+ * For each operation, the metrics count the invocations and keep a histogram of their durations. They also
+ * count how often a velocity is clamped to the speed limit, and how often a collision is refused because both
+ * ships overlap. Counters are striped, so threads do not contend when updating them.
+ *
+ * Metrics are only collected while they are enabled. While they are disabled, an instrumented operation only
+ * reads a single volatile field. Metrics are initially enabled iff the system property "asteroids.metrics" is "true".
+ * They can be inspected and toggled through JMX after {@link #registerMBeans()}.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public final class ShipMetrics implements ShipMetricsMBean {
+
+	/**
+	 * An enumeration of the instrumented operations.
+	 */
+	public static enum Operation {
+		MOVE, THRUST, TURN, TIME_TO_COLLISION, COLLISION_POSITION
+	}
+
+	/**
+	 * Constant returned by start() if metrics are disabled.
+	 */
+	static final long NOT_TIMED = Long.MIN_VALUE;
+
+	/**
+	 * Constant referencing the only instance of this class, which is the one exposed through JMX.
+	 */
+	private static final ShipMetrics INSTANCE = new ShipMetrics();
+
+	/**
+	 * Initialize the only instance of this class.
+	 */
+	private ShipMetrics() {
+		for (Operation operation : Operation.values())
+			operations.put(operation, new OperationMetrics());
+	}
+
+	/**
+	 * Return the only instance of this class.
+	 */
+	public static ShipMetrics getInstance() {
+		return INSTANCE;
+	}
+
+
+	/**
+	 * Check whether metrics are collected.
+	 */
+	@Override
+	public boolean isEnabled() {
+		return isCollecting();
+	}
+
+	/**
+	 * Start or stop collecting metrics.
+	 *
+	 * @param  enabled
+	 * 			Whether metrics must be collected.
+	 * @post   | new.isEnabled() == enabled
+	 */
+	@Override
+	public void setEnabled(boolean enabled) {
+		ShipMetrics.enabled = enabled;
+	}
+
+	/**
+	 * Check whether metrics are collected.
+	 */
+	public static boolean isCollecting() {
+		return enabled;
+	}
+
+	/**
+	 * Variable registering whether metrics are collected.
+	 */
+	private static volatile boolean enabled = Boolean.getBoolean("asteroids.metrics");
+
+
+	/**
+	 * Return the metrics of the given operation.
+	 */
+	public OperationMetrics getMetrics(Operation operation) {
+		return operations.get(operation);
+	}
+
+	/**
+	 * Variable referencing the metrics of each operation.
+	 */
+	private final Map<Operation, OperationMetrics> operations = new EnumMap<Operation, OperationMetrics>(Operation.class);
+
+	/**
+	 * Return the number of times a velocity was clamped to the speed limit.
+	 */
+	@Override
+	public long getSpeedLimitClamps() {
+		return speedLimitClamps.sum();
+	}
+
+	/**
+	 * Variable referencing the number of times a velocity was clamped to the speed limit.
+	 */
+	private final LongAdder speedLimitClamps = new LongAdder();
+
+	/**
+	 * Return the number of times a collision could not be predicted because both ships overlap,
+	 * either through an OverlapException or through an error of the facade.
+	 */
+	@Override
+	public long getOverlaps() {
+		return overlaps.sum();
+	}
+
+	/**
+	 * Variable referencing the number of times a collision could not be predicted because both ships overlap.
+	 */
+	private final LongAdder overlaps = new LongAdder();
+
+	/**
+	 * Reset all metrics to zero.
+	 */
+	@Override
+	public void reset() {
+		for (OperationMetrics metrics : operations.values())
+			metrics.reset();
+		speedLimitClamps.reset();
+		overlaps.reset();
+	}
+
+
+	/**
+	 * Return the time at which an instrumented operation starts, to be passed to stop().
+	 *
+	 * @return NOT_TIMED if metrics are disabled, and the current value of System.nanoTime() otherwise.
+	 */
+	static long start() {
+		return enabled ? System.nanoTime() : NOT_TIMED;
+	}
+
+	/**
+	 * Record an invocation of the given operation that started at the given time.
+	 *
+	 * @param  operation
+	 * 			The operation that was invoked.
+	 * @param  startTime
+	 * 			The result of start() when the operation started.
+	 */
+	static void stop(Operation operation, long startTime) {
+		if (startTime != NOT_TIMED)
+			INSTANCE.operations.get(operation).record(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Count a velocity that was clamped to the speed limit, if metrics are enabled.
+	 */
+	static void countSpeedLimitClamp() {
+		if (enabled)
+			INSTANCE.speedLimitClamps.increment();
+	}
+
+	/**
+	 * Count a collision that could not be predicted because both ships overlap, if metrics are enabled.
+	 */
+	public static void countOverlap() {
+		if (enabled)
+			INSTANCE.overlaps.increment();
+	}
+
+
+	/**
+	 * Register the metrics with the platform MBean server, under the domain "asteroids".
+	 * Registering them again has no effect.
+	 *
+	 * @throws IllegalStateException
+	 * 			The metrics cannot be registered.
+	 */
+	public static synchronized void registerMBeans() throws IllegalStateException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			ObjectName name = new ObjectName("asteroids:type=ShipMetrics");
+			if (server.isRegistered(name))
+				return;
+			server.registerMBean(INSTANCE, name);
+			for (Operation operation : Operation.values())
+				server.registerMBean(INSTANCE.operations.get(operation),
+						new ObjectName("asteroids:type=ShipMetrics,operation=" + operation.name()));
+		}
+		catch (JMException exc) {
+			throw new IllegalStateException(exc);
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package asteroids.model;
+
+/**
+ * The management interface of the metrics of the ship model.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public interface ShipMetricsMBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	long getSpeedLimitClamps();
+
+	long getOverlaps();
+
+	void reset();
+}
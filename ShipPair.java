@@ -0,0 +1,106 @@
+package asteroids.model;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+import be.kuleuven.cs.som.annotate.Value;
+
+/**
+ * A class representing an unordered pair of two different ships.
+ *
+ * @invar  Both ships of each pair are effective and different.
+ *       | (getShip1() != null) && (getShip2() != null) && (getShip1() != getShip2())
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@Value
+public final class ShipPair {
+
+	/**
+	 * Initialize this new pair with the given ships.
+	 *
+	 * @param  ship1
+	 * 			The first ship of this new pair.
+	 * @param  ship2
+	 * 			The second ship of this new pair.
+	 * @post   The first ship of this new pair is the given first ship.
+	 * 			| new.getShip1() == ship1
+	 * @post   The second ship of this new pair is the given second ship.
+	 * 			| new.getShip2() == ship2
+	 * @throws IllegalArgumentException
+	 * 			One of the given ships is not effective, or both ships are the same.
+	 * 			| (ship1 == null) || (ship2 == null) || (ship1 == ship2)
+	 */
+	public ShipPair(Ship ship1, Ship ship2) throws IllegalArgumentException {
+		if ((ship1 == null) || (ship2 == null) || (ship1 == ship2))
+			throw new IllegalArgumentException();
+		this.ship1 = ship1;
+		this.ship2 = ship2;
+	}
+
+
+	/**
+	 * Return the first ship of this pair.
+	 */
+	@Basic @Immutable
+	public Ship getShip1() {
+		return this.ship1;
+	}
+
+	/**
+	 * Variable registering the first ship of this pair.
+	 */
+	private final Ship ship1;
+
+
+	/**
+	 * Return the second ship of this pair.
+	 */
+	@Basic @Immutable
+	public Ship getShip2() {
+		return this.ship2;
+	}
+
+	/**
+	 * Variable registering the second ship of this pair.
+	 */
+	private final Ship ship2;
+
+
+	/**
+	 * Check whether the given ship belongs to this pair.
+	 *
+	 * @param  ship
+	 * 			The ship to check.
+	 * @return | result == (ship == getShip1()) || (ship == getShip2())
+	 */
+	public boolean contains(Ship ship) {
+		return (ship == getShip1()) || (ship == getShip2());
+	}
+
+
+	/**
+	 * Check whether this pair is equal to the given object.
+	 *
+	 * @return True iff the given object is a pair of the same ships, in any order.
+	 * 			| result == (other instanceof ShipPair) && ((ShipPair) other).contains(getShip1())
+	 * 			|	&& ((ShipPair) other).contains(getShip2())
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (! (other instanceof ShipPair))
+			return false;
+		ShipPair otherPair = (ShipPair) other;
+		return otherPair.contains(getShip1()) && otherPair.contains(getShip2());
+	}
+
+	/**
+	 * Return the hash code of this pair, which does not depend on the order of its ships.
+	 */
+	@Override
+	public int hashCode() {
+		return getShip1().hashCode() ^ getShip2().hashCode();
+	}
+}
@@ -0,0 +1,219 @@
+package asteroids.model;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+import be.kuleuven.cs.som.annotate.Value;
+
+/**
+ * A class representing an immutable snapshot of the changing state of a ship: its position,
+ * velocity and orientation, together with the number of modifications that led to it.
+ *
+ * Changing a state yields a new state, following the same rules as the corresponding methods of {@link Ship}.
+ *
+ * @invar  The speed of each state does not exceed the speed of light.
+ *       | getVelocity().getSpeed() <= Ship.SPEED_OF_LIGHT
+ * @invar  The orientation of each state is a valid orientation for any ship.
+ *       | Ship.isValidOrientation(getOrientation())
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@Value
+public final class ShipState {
+
+	/**
+	 * Initialize this new state with the given properties and no modifications.
+	 *
+	 * @param  xCoordinate
+	 * 			The xCoordinate of this new state.
+	 * @param  yCoordinate
+	 * 			The yCoordinate of this new state.
+	 * @param  xComponent
+	 * 			The xComponent of the velocity of this new state.
+	 * @param  yComponent
+	 * 			The yComponent of the velocity of this new state.
+	 * @param  orientation
+	 * 			The orientation of this new state.
+	 * @pre    The given orientation is a valid orientation for any ship.
+	 * 			| Ship.isValidOrientation(orientation)
+	 * @post   The position of this new state has the given coordinates.
+	 * 			| new.getPosition().equals(new ImmutablePosition(xCoordinate, yCoordinate))
+	 * @post   The velocity of this new state is set as by Ship.setVelocity(xComponent, yComponent).
+	 * @post   | new.getOrientation() == orientation
+	 * @post   | new.getNbModifications() == 0
+	 * @throws IllegalCoordinateException
+	 * 			One of the given coordinates is not valid.
+	 * 			| ! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate)
+	 */
+	public ShipState(double xCoordinate, double yCoordinate, double xComponent, double yComponent, double orientation)
+			throws IllegalCoordinateException {
+		this(new ImmutablePosition(xCoordinate, yCoordinate),
+				getLimitedVelocity(ImmutableVelocity.ZERO, xComponent, yComponent), orientation, 0);
+	}
+
+	/**
+	 * Initialize this new state with the given position, velocity, orientation and number of modifications.
+	 */
+	private ShipState(ImmutablePosition position, ImmutableVelocity velocity, double orientation, long nbModifications) {
+		assert Ship.isValidOrientation(orientation);
+		this.position = position;
+		this.velocity = velocity;
+		this.orientation = orientation;
+		this.nbModifications = nbModifications;
+	}
+
+
+	/**
+	 * Return the position of this state.
+	 */
+	@Basic @Immutable
+	public ImmutablePosition getPosition() {
+		return this.position;
+	}
+
+	/**
+	 * Variable registering the position of this state.
+	 */
+	private final ImmutablePosition position;
+
+	/**
+	 * Return the velocity of this state.
+	 */
+	@Basic @Immutable
+	public ImmutableVelocity getVelocity() {
+		return this.velocity;
+	}
+
+	/**
+	 * Variable registering the velocity of this state.
+	 */
+	private final ImmutableVelocity velocity;
+
+	/**
+	 * Return the orientation of this state.
+	 */
+	@Basic @Immutable
+	public double getOrientation() {
+		return this.orientation;
+	}
+
+	/**
+	 * Variable registering the orientation of this state.
+	 */
+	private final double orientation;
+
+	/**
+	 * Return the number of modifications that led to this state.
+	 */
+	@Basic @Immutable
+	public long getNbModifications() {
+		return this.nbModifications;
+	}
+
+	/**
+	 * Variable registering the number of modifications that led to this state.
+	 */
+	private final long nbModifications;
+
+
+	/**
+	 * Return the state reached from this state after moving during the given duration.
+	 *
+	 * @param  duration
+	 * 			The length of the time interval during which to move.
+	 * @return A state with the position moved as by Ship.move(duration), the same velocity and orientation,
+	 * 			and one more modification.
+	 * 			| result.getPosition().equals(getPosition().plus(getVelocity(), duration)) &&
+	 * 			|	result.getNbModifications() == getNbModifications() + 1
+	 * @throws IllegalArgumentException
+	 * 			The given duration is strictly less than 0.
+	 * 			| duration < 0
+	 * @throws IllegalCoordinateException
+	 * 			One of the resulting coordinates is not valid.
+	 */
+	public ShipState moved(double duration) throws IllegalArgumentException, IllegalCoordinateException {
+		if (duration < 0)
+			throw new IllegalArgumentException();
+		return new ShipState(getPosition().plus(getVelocity(), duration), getVelocity(), getOrientation(), getNbModifications() + 1);
+	}
+
+	/**
+	 * Return the state reached from this state after thrusting with the given amount.
+	 *
+	 * @param  amount
+	 * 			The amount to be added to the velocity.
+	 * @return If the given amount is non-negative, a state with the velocity changed as by Ship.thrust(amount),
+	 * 			the same position and orientation, and one more modification. Otherwise, this state.
+	 */
+	public ShipState thrusted(double amount) {
+		if (! (amount >= 0))
+			return this;
+		ImmutableVelocity newVelocity = getLimitedVelocity(getVelocity(), getVelocity().getxComponent() + amount * Math.cos(getOrientation()),
+				getVelocity().getyComponent() + amount * Math.sin(getOrientation()));
+		return new ShipState(getPosition(), newVelocity, getOrientation(), getNbModifications() + 1);
+	}
+
+	/**
+	 * Return the state reached from this state after turning over the given angle.
+	 *
+	 * @param  angle
+	 * 			The angle over which to turn.
+	 * @pre    The resulting orientation is valid.
+	 * 			| Ship.isValidOrientation(getOrientation() + angle)
+	 * @return A state with the given angle added to the orientation, the same position and velocity,
+	 * 			and one more modification.
+	 * 			| result.getOrientation() == getOrientation() + angle &&
+	 * 			|	result.getNbModifications() == getNbModifications() + 1
+	 */
+	public ShipState turned(double angle) {
+		return new ShipState(getPosition(), getVelocity(), getOrientation() + angle, getNbModifications() + 1);
+	}
+
+	/**
+	 * Check whether this state is equal to the given object.
+	 *
+	 * @return True iff the given object is a state with an equal position and velocity, the same orientation
+	 * 			and the same number of modifications.
+	 * 			| result == (other instanceof ShipState) &&
+	 * 			|	getPosition().equals(((ShipState) other).getPosition()) &&
+	 * 			|	getVelocity().equals(((ShipState) other).getVelocity()) &&
+	 * 			|	(Double.compare(getOrientation(), ((ShipState) other).getOrientation()) == 0) &&
+	 * 			|	(getNbModifications() == ((ShipState) other).getNbModifications())
+	 */
+	@Override
+	public boolean equals(Object other) {
+		if (this == other)
+			return true;
+		if (! (other instanceof ShipState))
+			return false;
+		ShipState otherState = (ShipState) other;
+		return getPosition().equals(otherState.getPosition()) && getVelocity().equals(otherState.getVelocity())
+				&& (Double.compare(getOrientation(), otherState.getOrientation()) == 0)
+				&& (getNbModifications() == otherState.getNbModifications());
+	}
+
+	/**
+	 * Return the hash code of this state.
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * (31 * getPosition().hashCode() + getVelocity().hashCode()) + Double.hashCode(getOrientation());
+	}
+
+
+	/**
+	 * Return the velocity with the given components, following the rules of Ship.setVelocity.
+	 * An invalid component is replaced by the corresponding component of the given current velocity,
+	 * and a speed above the speed of light is scaled down to the speed of light.
+	 */
+	private static ImmutableVelocity getLimitedVelocity(ImmutableVelocity current, double xComponent, double yComponent) {
+		if (! Velocity.isValidComponent(xComponent))
+			xComponent = current.getxComponent();
+		if (! Velocity.isValidComponent(yComponent))
+			yComponent = current.getyComponent();
+		double speed = Math.hypot(xComponent, yComponent);
+		if (speed <= Ship.SPEED_OF_LIGHT)
+			return new ImmutableVelocity(xComponent, yComponent);
+		return new ImmutableVelocity(xComponent * Ship.SPEED_OF_LIGHT / speed, yComponent * Ship.SPEED_OF_LIGHT / speed);
+	}
+}
@@ -0,0 +1,704 @@
+package asteroids.model;
+
+import java.util.Arrays;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+import be.kuleuven.cs.som.annotate.Raw;
+
+/**
+ * A class storing the state of many ships in parallel arrays, one array per property.
+ *
+ * Ships in a store are addressed by an integer handle, which is the index of the ship in each array.
+ * Handles are handed out in increasing order starting from 0 and never change. All bulk operations
+ * apply the same rules as the corresponding methods of {@link Ship}.
+ *
+ * The bulk operations over all ships ({@link #moveAll(double)} and {@link #thrustAll(double[])}) come in
+ * two kernels. The scalar kernel handles one ship at a time, exactly like Ship. The vectorized kernel
+ * uses straight-line loops over the arrays that the JIT compiler can turn into SIMD instructions; the
+ * cosine and sine of each orientation are kept in columns of their own, so that these loops only multiply
+ * and add. ShipStoreBenchmark compares both kernels. The vectorized kernel also
+ * computes speeds as Math.sqrt(vx * vx + vy * vy) instead of Math.hypot(vx, vy). Positions computed by
+ * both kernels are identical. Velocity components clamped to the speed limit differ by at most
+ * {@link #MAX_VECTORIZED_ULP_ERROR} units in the last place. The vectorized kernel falls back to the
+ * scalar one whenever its inputs are large enough for an intermediate result to overflow.
+ *
+ * A store can also be put in trajectory mode. In that mode, the store registers for each ship the position
+ * it had at some time, together with that time, and computes its current position on demand from its velocity
+ * and the clock of the store. Moving all ships then only advances the clock. The position of a ship is only
+ * brought up to date when its velocity changes. Positions computed in trajectory mode may differ from the
+ * positions computed by moving the ships step by step, since they are not rounded after each step.
+ *
+ * @invar  The position of each ship in a store is a valid position.
+ *       | for each handle in 0..getNbShips()-1:
+ *       |	Position.isValidCoordinate(getxCoordinate(handle)) && Position.isValidCoordinate(getyCoordinate(handle))
+ * @invar  The speed of each ship in a store does not exceed the speed limit of any ship.
+ *       | for each handle in 0..getNbShips()-1:
+ *       |	Math.hypot(getxVelocity(handle), getyVelocity(handle)) <= getSpeedLimit()
+ * @invar  The radius of each ship in a store is a valid radius for any ship.
+ *       | for each handle in 0..getNbShips()-1:
+ *       |	Ship.isValidRadius(getRadius(handle))
+ * @invar  The orientation of each ship in a store is a valid orientation for any ship.
+ *       | for each handle in 0..getNbShips()-1:
+ *       |	Ship.isValidOrientation(getOrientation(handle))
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class ShipStore {
+
+	/**
+	 * Initialize this new store without any ships.
+	 *
+	 * @post   | new.getNbShips() == 0
+	 */
+	public ShipStore() {
+		this(16);
+	}
+
+	/**
+	 * Initialize this new store without any ships, with room for the given number of ships.
+	 *
+	 * @param  initialCapacity
+	 * 			The number of ships this store can hold before its arrays must grow.
+	 * @effect | this(initialCapacity, getDefaultKernel())
+	 */
+	public ShipStore(int initialCapacity) throws IllegalArgumentException {
+		this(initialCapacity, getDefaultKernel());
+	}
+
+	/**
+	 * Initialize this new store without any ships, with room for the given number of ships.
+	 *
+	 * @param  initialCapacity
+	 * 			The number of ships this store can hold before its arrays must grow.
+	 * @param  kernel
+	 * 			The kernel used by the bulk operations of this new store.
+	 * @post   | new.getNbShips() == 0
+	 * @post   | new.getKernel() == kernel
+	 * @throws IllegalArgumentException
+	 * 			The given capacity is negative, or the given kernel is not effective.
+	 * 			| (initialCapacity < 0) || (kernel == null)
+	 */
+	public ShipStore(int initialCapacity, Kernel kernel) throws IllegalArgumentException {
+		if ((initialCapacity < 0) || (kernel == null))
+			throw new IllegalArgumentException();
+		this.kernel = kernel;
+		xCoordinates = new double[initialCapacity];
+		yCoordinates = new double[initialCapacity];
+		xVelocities = new double[initialCapacity];
+		yVelocities = new double[initialCapacity];
+		radii = new double[initialCapacity];
+		orientations = new double[initialCapacity];
+		xDirections = new double[initialCapacity];
+		yDirections = new double[initialCapacity];
+		times = new double[initialCapacity];
+	}
+
+
+	/**
+	 * An enumeration of the kernels available for the bulk operations of a store.
+	 */
+	public static enum Kernel {
+		SCALAR, VECTORIZED
+	}
+
+	/**
+	 * Return the kernel used by new stores for which no kernel is given.
+	 *
+	 * The default kernel is selected once, when this class is loaded. It is the scalar kernel if the
+	 * system property "asteroids.shipstore.kernel" is set to "scalar", and the vectorized kernel otherwise.
+	 */
+	public static Kernel getDefaultKernel() {
+		return DEFAULT_KERNEL;
+	}
+
+	/**
+	 * Constant registering the kernel used by new stores for which no kernel is given.
+	 */
+	private static final Kernel DEFAULT_KERNEL =
+			"scalar".equalsIgnoreCase(System.getProperty("asteroids.shipstore.kernel")) ? Kernel.SCALAR : Kernel.VECTORIZED;
+
+	/**
+	 * Constant registering the maximal difference, in units in the last place, between a velocity component
+	 * clamped by the vectorized kernel and the same component clamped by the scalar kernel.
+	 */
+	public static final int MAX_VECTORIZED_ULP_ERROR = 4;
+
+	/**
+	 * Return the kernel used by the bulk operations of this store.
+	 */
+	@Basic @Immutable
+	public Kernel getKernel() {
+		return this.kernel;
+	}
+
+	/**
+	 * Variable registering the kernel used by the bulk operations of this store.
+	 */
+	private final Kernel kernel;
+
+
+	/**
+	 * Check whether this store is in trajectory mode.
+	 */
+	@Basic
+	public boolean isInTrajectoryMode() {
+		return this.trajectoryMode;
+	}
+
+	/**
+	 * Put this store in trajectory mode, or take it out of trajectory mode.
+	 *
+	 * @param  trajectoryMode
+	 * 			Whether this store must be in trajectory mode.
+	 * @post   | new.isInTrajectoryMode() == trajectoryMode
+	 * @post   The state of the ships in this store does not change.
+	 */
+	public void setTrajectoryMode(boolean trajectoryMode) {
+		if (this.trajectoryMode && ! trajectoryMode)
+			materializeAll();
+		this.trajectoryMode = trajectoryMode;
+	}
+
+	/**
+	 * Variable registering whether this store is in trajectory mode.
+	 */
+	private boolean trajectoryMode = false;
+
+	/**
+	 * Return the time on the clock of this store, which is the total duration during which
+	 * its ships have been moved in trajectory mode.
+	 */
+	@Basic
+	public double getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Variable registering the time on the clock of this store.
+	 */
+	private double clock = 0;
+
+
+	/**
+	 * Return the number of ships in this store.
+	 */
+	@Basic @Raw
+	public int getNbShips() {
+		return this.nbShips;
+	}
+
+	/**
+	 * Variable registering the number of ships in this store.
+	 */
+	private int nbShips = 0;
+
+	/**
+	 * Check whether the given handle refers to a ship in this store.
+	 *
+	 * @param  handle
+	 * 			The handle to check.
+	 * @return | result == (0 <= handle) && (handle < getNbShips())
+	 */
+	public boolean isValidHandle(int handle) {
+		return (0 <= handle) && (handle < getNbShips());
+	}
+
+	/**
+	 * Return the speed limit of the ships in this store.
+	 *
+	 * @return | result == Ship.SPEED_OF_LIGHT
+	 */
+	@Basic
+	public double getSpeedLimit() {
+		return Ship.SPEED_OF_LIGHT;
+	}
+
+
+	/**
+	 * Add a ship with the given properties to this store.
+	 *
+	 * @param  xCoordinate
+	 * 			The xCoordinate of the new ship.
+	 * @param  yCoordinate
+	 * 			The yCoordinate of the new ship.
+	 * @param  xComponent
+	 * 			The xComponent of the velocity of the new ship.
+	 * @param  yComponent
+	 * 			The yComponent of the velocity of the new ship.
+	 * @param  radius
+	 * 			The radius of the new ship.
+	 * @param  orientation
+	 * 			The orientation of the new ship.
+	 * @pre    The given orientation is a valid orientation for any ship.
+	 * 			| Ship.isValidOrientation(orientation)
+	 * @return The handle of the new ship, which is the number of ships in this store before the addition.
+	 * 			| result == getNbShips()
+	 * @post   The new ship has the same state as new Ship(xCoordinate, yCoordinate, xComponent, yComponent, radius, orientation).
+	 * @throws IllegalCoordinateException
+	 * 			One of the given coordinates is not valid.
+	 * 			| ! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate)
+	 * @throws IllegalRadiusException
+	 * 			The given radius is not valid.
+	 * 			| ! Ship.isValidRadius(radius)
+	 */
+	public int addShip(double xCoordinate, double yCoordinate, double xComponent, double yComponent,
+						double radius, double orientation) throws IllegalCoordinateException, IllegalRadiusException {
+		if (! Ship.isValidRadius(radius))
+			throw IllegalRadiusException.getInstance();
+		if (! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate))
+			throw IllegalCoordinateException.getInstance();
+		assert Ship.isValidOrientation(orientation);
+		if (nbShips == xCoordinates.length)
+			grow();
+		int handle = nbShips++;
+		coordinateBound = Math.max(coordinateBound, Math.max(Math.abs(xCoordinate), Math.abs(yCoordinate)));
+		xCoordinates[handle] = xCoordinate;
+		yCoordinates[handle] = yCoordinate;
+		times[handle] = clock;
+		radii[handle] = radius;
+		setOrientation(handle, orientation);
+		setVelocity(handle, xComponent, yComponent);
+		return handle;
+	}
+
+	/**
+	 * Add a ship with the same state as the given ship to this store.
+	 *
+	 * @param  ship
+	 * 			The ship whose state must be copied.
+	 * @return | result == addShip(ship.getxCoordinate(), ship.getyCoordinate(), ship.getxVelocity(),
+	 * 			|					ship.getyVelocity(), ship.getRadius(), ship.getOrientation())
+	 * @throws NullPointerException
+	 * 			The given ship is not effective.
+	 * 			| ship == null
+	 */
+	public int addShip(Ship ship) throws NullPointerException {
+		return addShip(ship.getxCoordinate(), ship.getyCoordinate(), ship.getxVelocity(), ship.getyVelocity(),
+				ship.getRadius(), ship.getOrientation());
+	}
+
+	/**
+	 * Return a new ship with the state of the ship with the given handle.
+	 *
+	 * @param  handle
+	 * 			The handle of the ship.
+	 * @return | result.getxCoordinate() == getxCoordinate(handle) && result.getyCoordinate() == getyCoordinate(handle)
+	 * 			|	&& result.getxVelocity() == getxVelocity(handle) && result.getyVelocity() == getyVelocity(handle)
+	 * 			|	&& result.getRadius() == getRadius(handle) && result.getOrientation() == getOrientation(handle)
+	 * @throws IndexOutOfBoundsException
+	 * 			The given handle does not refer to a ship in this store.
+	 * 			| ! isValidHandle(handle)
+	 */
+	public Ship toShip(int handle) throws IndexOutOfBoundsException {
+		return new Ship(getxCoordinate(handle), getyCoordinate(handle), xVelocities[handle], yVelocities[handle],
+				radii[handle], orientations[handle]);
+	}
+
+	/**
+	 * Enlarge the arrays of this store.
+	 */
+	private void grow() {
+		int capacity = Math.max(16, 2 * xCoordinates.length);
+		xCoordinates = Arrays.copyOf(xCoordinates, capacity);
+		yCoordinates = Arrays.copyOf(yCoordinates, capacity);
+		xVelocities = Arrays.copyOf(xVelocities, capacity);
+		yVelocities = Arrays.copyOf(yVelocities, capacity);
+		radii = Arrays.copyOf(radii, capacity);
+		orientations = Arrays.copyOf(orientations, capacity);
+		xDirections = Arrays.copyOf(xDirections, capacity);
+		yDirections = Arrays.copyOf(yDirections, capacity);
+		times = Arrays.copyOf(times, capacity);
+	}
+
+	/**
+	 * Check that the given handle refers to a ship in this store.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	private void checkHandle(int handle) throws IndexOutOfBoundsException {
+		if (! isValidHandle(handle))
+			throw new IndexOutOfBoundsException("Invalid handle: " + handle);
+	}
+
+
+	/**
+	 * Return the xCoordinate of the ship with the given handle.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	@Basic
+	public double getxCoordinate(int handle) throws IndexOutOfBoundsException {
+		checkHandle(handle);
+		if (trajectoryMode)
+			return xCoordinates[handle] + (clock - times[handle]) * xVelocities[handle];
+		return xCoordinates[handle];
+	}
+
+	/**
+	 * Return the yCoordinate of the ship with the given handle.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	@Basic
+	public double getyCoordinate(int handle) throws IndexOutOfBoundsException {
+		checkHandle(handle);
+		if (trajectoryMode)
+			return yCoordinates[handle] + (clock - times[handle]) * yVelocities[handle];
+		return yCoordinates[handle];
+	}
+
+	/**
+	 * Return the xComponent of the velocity of the ship with the given handle.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	@Basic
+	public double getxVelocity(int handle) throws IndexOutOfBoundsException {
+		checkHandle(handle);
+		return xVelocities[handle];
+	}
+
+	/**
+	 * Return the yComponent of the velocity of the ship with the given handle.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	@Basic
+	public double getyVelocity(int handle) throws IndexOutOfBoundsException {
+		checkHandle(handle);
+		return yVelocities[handle];
+	}
+
+	/**
+	 * Return the radius of the ship with the given handle.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	@Basic
+	public double getRadius(int handle) throws IndexOutOfBoundsException {
+		checkHandle(handle);
+		return radii[handle];
+	}
+
+	/**
+	 * Return the orientation of the ship with the given handle.
+	 *
+	 * @throws IndexOutOfBoundsException
+	 * 			| ! isValidHandle(handle)
+	 */
+	@Basic
+	public double getOrientation(int handle) throws IndexOutOfBoundsException {
+		checkHandle(handle);
+		return orientations[handle];
+	}
+
+	/**
+	 * Variables referencing the columns of this store. The element at index i of each array
+	 * belongs to the ship with handle i.
+	 *
+	 * In trajectory mode, the coordinates of a ship are those it had when the clock showed the
+	 * time registered for it in the column of times.
+	 */
+	private double[] xCoordinates, yCoordinates, xVelocities, yVelocities, radii, orientations, times;
+
+	/**
+	 * Variables referencing the cosine and the sine of the orientation of each ship, indexed by handle.
+	 *
+	 * They are computed whenever an orientation is set, so that thrusting all ships is a loop of
+	 * multiplications and additions only, which the JIT compiler can vectorize.
+	 */
+	private double[] xDirections, yDirections;
+
+	/**
+	 * Set the orientation of the ship with the given handle to the given orientation, together with its direction.
+	 */
+	private void setOrientation(int handle, double orientation) {
+		orientations[handle] = orientation;
+		xDirections[handle] = Math.cos(orientation);
+		yDirections[handle] = Math.sin(orientation);
+	}
+
+	/**
+	 * Bring the registered coordinates of the ship with the given handle up to date with the clock of this store.
+	 */
+	private void materialize(int handle) {
+		double elapsed = clock - times[handle];
+		if (elapsed != 0) {
+			xCoordinates[handle] = xCoordinates[handle] + elapsed * xVelocities[handle];
+			yCoordinates[handle] = yCoordinates[handle] + elapsed * yVelocities[handle];
+			times[handle] = clock;
+		}
+	}
+
+	/**
+	 * Bring the registered coordinates of all ships up to date with the clock of this store.
+	 */
+	private void materializeAll() {
+		for (int i = 0; i < nbShips; i++)
+			materialize(i);
+	}
+
+	/**
+	 * Variable registering an upper bound on the absolute value of all coordinates in this store.
+	 * The vectorized kernel and trajectory mode use it to rule out invalid coordinates without checking
+	 * each ship, so every kernel must keep it up to date.
+	 */
+	private double coordinateBound = 0;
+
+
+	/**
+	 * Move all the ships in this store during the given duration.
+	 *
+	 * @param  duration
+	 * 			The length of the time interval during which the ships are moved.
+	 * @effect Each ship is moved in the same way as Ship.move(duration), in the order of their handles.
+	 * 			| for each handle in 0..getNbShips()-1:
+	 * 			|	new.getxCoordinate(handle) == getxCoordinate(handle) + duration * getxVelocity(handle) &&
+	 * 			|	new.getyCoordinate(handle) == getyCoordinate(handle) + duration * getyVelocity(handle)
+	 * @throws IllegalArgumentException
+	 * 			The given duration is strictly less than 0.
+	 * 			| duration < 0
+	 * @post   In trajectory mode, the clock of this store is advanced by the given duration.
+	 * 			| if (isInTrajectoryMode())
+	 * 			|	then new.getClock() == getClock() + duration
+	 * @throws IllegalCoordinateException
+	 * 			The new position of one of the ships is not valid. That ship and the ships with a
+	 * 			higher handle are not moved. In trajectory mode, no ship is moved.
+	 */
+	public void moveAll(double duration) throws IllegalArgumentException, IllegalCoordinateException {
+		if (duration < 0)
+			throw new IllegalArgumentException();
+		if (trajectoryMode) {
+			moveAllTrajectories(duration);
+			return;
+		}
+		if (getKernel() == Kernel.SCALAR) {
+			moveAllScalar(duration);
+			return;
+		}
+		// No speed exceeds the speed limit by more than a few ulps, so twice the speed limit bounds every component.
+		double newBound = coordinateBound + duration * 2 * getSpeedLimit();
+		if (newBound <= Double.MAX_VALUE) {
+			moveAllVectorized(duration);
+			coordinateBound = newBound;
+		}
+		else
+			moveAllScalar(duration);
+	}
+
+	/**
+	 * Move all ships during the given duration by advancing the clock of this store.
+	 *
+	 * As long as the bound on the coordinates guarantees that no ship can reach an invalid position,
+	 * this takes constant time. Otherwise, every position is checked before the clock is advanced.
+	 */
+	private void moveAllTrajectories(double duration) throws IllegalCoordinateException {
+		double newBound = coordinateBound + duration * 2 * getSpeedLimit();
+		if (! (newBound <= Double.MAX_VALUE)) {
+			newBound = 0;
+			for (int i = 0; i < nbShips; i++) {
+				double elapsed = clock + duration - times[i];
+				double xCoordinate = xCoordinates[i] + elapsed * xVelocities[i];
+				double yCoordinate = yCoordinates[i] + elapsed * yVelocities[i];
+				if (! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate))
+					throw IllegalCoordinateException.getInstance();
+				newBound = Math.max(newBound, Math.max(Math.abs(xCoordinate), Math.abs(yCoordinate)));
+			}
+		}
+		clock += duration;
+		coordinateBound = newBound;
+	}
+
+	/**
+	 * Move all ships during the given duration, one ship at a time, and bring the bound on the
+	 * coordinates up to date with the new positions.
+	 */
+	private void moveAllScalar(double duration) throws IllegalCoordinateException {
+		double newBound = 0;
+		for (int i = 0; i < nbShips; i++) {
+			double xCoordinate = xCoordinates[i] + duration * xVelocities[i];
+			double yCoordinate = yCoordinates[i] + duration * yVelocities[i];
+			if (! Position.isValidCoordinate(xCoordinate) || ! Position.isValidCoordinate(yCoordinate)) {
+				// The ships that were not moved are still covered by the old bound.
+				coordinateBound = Math.max(coordinateBound, newBound);
+				throw IllegalCoordinateException.getInstance();
+			}
+			xCoordinates[i] = xCoordinate;
+			yCoordinates[i] = yCoordinate;
+			newBound = Math.max(newBound, Math.max(Math.abs(xCoordinate), Math.abs(yCoordinate)));
+		}
+		coordinateBound = newBound;
+	}
+
+	/**
+	 * Move all ships during the given duration, in loops without branches that can be vectorized.
+	 * The caller must make sure that no coordinate can become invalid.
+	 */
+	private void moveAllVectorized(double duration) {
+		double[] xs = xCoordinates, vxs = xVelocities;
+		for (int i = 0; i < nbShips; i++)
+			xs[i] = xs[i] + duration * vxs[i];
+		double[] ys = yCoordinates, vys = yVelocities;
+		for (int i = 0; i < nbShips; i++)
+			ys[i] = ys[i] + duration * vys[i];
+	}
+
+	/**
+	 * Change the velocity of all ships with the corresponding given amounts.
+	 *
+	 * @param  amounts
+	 * 			The amounts to be added to the velocity of each ship, indexed by handle.
+	 * @effect Each ship is thrust in the same way as Ship.thrust, up to the tolerance of the vectorized kernel.
+	 * 			| for each handle in 0..getNbShips()-1:
+	 * 			|	if (amounts[handle] >= 0)
+	 * 			|		then setVelocity(handle, getxVelocity(handle) + amounts[handle] * Math.cos(getOrientation(handle)),
+	 * 			|							getyVelocity(handle) + amounts[handle] * Math.sin(getOrientation(handle)))
+	 * @throws IllegalArgumentException
+	 * 			The length of the given array differs from the number of ships in this store.
+	 * 			| amounts.length != getNbShips()
+	 */
+	public void thrustAll(double[] amounts) throws IllegalArgumentException {
+		if (amounts.length != nbShips)
+			throw new IllegalArgumentException();
+		if (trajectoryMode)
+			materializeAll();
+		double maxAmount = 0;
+		for (int i = 0; i < nbShips; i++)
+			maxAmount = Math.max(maxAmount, amounts[i]);
+		// Below this bound, neither the new components nor their squares can overflow.
+		if ((getKernel() == Kernel.SCALAR) || ! (maxAmount <= MAX_VECTORIZED_AMOUNT)) {
+			for (int i = 0; i < nbShips; i++)
+				if (amounts[i] >= 0)
+					setVelocity(i, xVelocities[i] + amounts[i] * xDirections[i], yVelocities[i] + amounts[i] * yDirections[i]);
+			return;
+		}
+		double[] vxs = xVelocities, vys = yVelocities, dxs = xDirections, dys = yDirections;
+		for (int i = 0; i < nbShips; i++) {
+			double amount = (amounts[i] >= 0) ? amounts[i] : 0;
+			vxs[i] = vxs[i] + amount * dxs[i];
+			vys[i] = vys[i] + amount * dys[i];
+		}
+		clampAllVectorized();
+	}
+
+	/**
+	 * Constant registering the largest amount for which thrustAll may use the vectorized kernel.
+	 */
+	private static final double MAX_VECTORIZED_AMOUNT = 1e150;
+
+	/**
+	 * Scale down the velocity of each ship whose speed exceeds the speed limit, in a loop without
+	 * branches that can be vectorized.
+	 */
+	private void clampAllVectorized() {
+		double[] vxs = xVelocities, vys = yVelocities;
+		double speedLimit = getSpeedLimit();
+		for (int i = 0; i < nbShips; i++) {
+			double speed = Math.sqrt(vxs[i] * vxs[i] + vys[i] * vys[i]);
+			// A speed of zero yields an infinite ratio, which leaves the velocity unchanged.
+			double factor = Math.min(1.0, speedLimit / speed);
+			vxs[i] = vxs[i] * factor;
+			vys[i] = vys[i] * factor;
+		}
+	}
+
+	/**
+	 * Change the velocity of the ships with the given handles with the corresponding given amounts.
+	 *
+	 * @param  handles
+	 * 			The handles of the ships to thrust.
+	 * @param  amounts
+	 * 			The amounts to be added to the velocity of the corresponding ships.
+	 * @effect Each ship with a given handle is thrust in the same way as Ship.thrust, in the given order.
+	 * 			| for each i in 0..handles.length-1:
+	 * 			|	if (amounts[i] >= 0)
+	 * 			|		then setVelocity(handles[i], getxVelocity(handles[i]) + amounts[i] * Math.cos(getOrientation(handles[i])),
+	 * 			|							getyVelocity(handles[i]) + amounts[i] * Math.sin(getOrientation(handles[i])))
+	 * @throws IllegalArgumentException
+	 * 			The given arrays do not have the same length.
+	 * 			| handles.length != amounts.length
+	 * @throws IndexOutOfBoundsException
+	 * 			One of the given handles does not refer to a ship in this store.
+	 */
+	public void thrust(int[] handles, double[] amounts) throws IllegalArgumentException, IndexOutOfBoundsException {
+		if (handles.length != amounts.length)
+			throw new IllegalArgumentException();
+		for (int i = 0; i < handles.length; i++) {
+			int handle = handles[i];
+			checkHandle(handle);
+			double amount = amounts[i];
+			if (amount >= 0)
+				setVelocity(handle, xVelocities[handle] + amount * xDirections[handle],
+						yVelocities[handle] + amount * yDirections[handle]);
+		}
+	}
+
+	/**
+	 * Turn the ships with the given handles over the corresponding given angles.
+	 *
+	 * @param  handles
+	 * 			The handles of the ships to turn.
+	 * @param  angles
+	 * 			The angles over which the corresponding ships must be turned.
+	 * @pre    Each ship can be turned over the corresponding angle.
+	 * 			| for each i in 0..handles.length-1:
+	 * 			|	Ship.isValidOrientation(getOrientation(handles[i]) + angles[i])
+	 * @effect Each ship with a given handle is turned in the same way as Ship.turn, in the given order.
+	 * 			| for each i in 0..handles.length-1:
+	 * 			|	new.getOrientation(handles[i]) == getOrientation(handles[i]) + angles[i]
+	 * @throws IllegalArgumentException
+	 * 			The given arrays do not have the same length.
+	 * 			| handles.length != angles.length
+	 * @throws IndexOutOfBoundsException
+	 * 			One of the given handles does not refer to a ship in this store.
+	 */
+	public void turn(int[] handles, double[] angles) throws IllegalArgumentException, IndexOutOfBoundsException {
+		if (handles.length != angles.length)
+			throw new IllegalArgumentException();
+		for (int i = 0; i < handles.length; i++) {
+			int handle = handles[i];
+			checkHandle(handle);
+			double orientation = orientations[handle] + angles[i];
+			assert Ship.isValidOrientation(orientation);
+			setOrientation(handle, orientation);
+		}
+	}
+
+	/**
+	 * Set the velocity of the ship with the given handle, following the rules of Ship.setVelocity.
+	 *
+	 * @param  handle
+	 * 			The handle of the ship.
+	 * @param  xComponent
+	 * 			The new xComponent for the velocity of the ship.
+	 * @param  yComponent
+	 * 			The new yComponent for the velocity of the ship.
+	 * @post   An invalid component leaves the corresponding current component unchanged. If the resulting speed
+	 * 			exceeds the speed limit, both components are scaled down such that the speed equals the speed limit.
+	 */
+	private void setVelocity(int handle, double xComponent, double yComponent) {
+		if (trajectoryMode)
+			materialize(handle);
+		if (! Velocity.isValidComponent(xComponent))
+			xComponent = xVelocities[handle];
+		if (! Velocity.isValidComponent(yComponent))
+			yComponent = yVelocities[handle];
+		double speed = Math.hypot(xComponent, yComponent);
+		if (speed <= getSpeedLimit()) {
+			xVelocities[handle] = xComponent;
+			yVelocities[handle] = yComponent;
+		}
+		else {
+			xVelocities[handle] = xComponent * getSpeedLimit() / speed;
+			yVelocities[handle] = yComponent * getSpeedLimit() / speed;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package asteroids.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import asteroids.model.Ship;
+import asteroids.model.ShipStore;
+import asteroids.model.ShipStore.Kernel;
+
+/**
+ * Benchmarks comparing the scalar and the vectorized kernel of the bulk operations of a ship store.
+ *
+ * Run with -prof perfasm to check which loops the JIT compiler actually vectorized.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ShipStoreBenchmark {
+
+	/**
+	 * The kernel under test.
+	 */
+	@Param({"SCALAR", "VECTORIZED"})
+	public Kernel kernel;
+
+	/**
+	 * The number of ships in the store.
+	 */
+	@Param({"1000", "100000"})
+	public int nbShips;
+
+	/**
+	 * The store under test.
+	 */
+	private ShipStore store;
+
+	/**
+	 * The amounts by which the ships are thrust, indexed by handle.
+	 */
+	private double[] amounts;
+
+	/**
+	 * Create a store with a randomized fleet, and random amounts to thrust each ship.
+	 */
+	@Setup
+	public void setUp() {
+		store = new ShipStore(nbShips, kernel);
+		for (Ship ship : ShipBenchmark.createFleet(nbShips, 42))
+			store.addShip(ship);
+		Random random = new Random(42);
+		amounts = new double[nbShips];
+		for (int i = 0; i < nbShips; i++)
+			amounts[i] = random.nextDouble() * 10;
+	}
+
+	@Benchmark
+	public ShipStore thrustAll() {
+		store.thrustAll(amounts);
+		return store;
+	}
+
+	@Benchmark
+	public ShipStore moveAll() {
+		store.moveAll(0.001);
+		return store;
+	}
+}
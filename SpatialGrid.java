@@ -0,0 +1,202 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A class representing a uniform grid over the bounding boxes of a collection of ships,
+ * used to answer proximity queries without comparing every pair of ships.
+ *
+ * Each ship is registered in every cell its bounding box covers. A pair of ships (or a ship
+ * and a query box) is only examined in the single cell at the lowest corner of the intersection
+ * of both boxes, so no result is reported twice. Ships that would cover too many cells are
+ * kept aside and compared with every other ship instead.
+ *
+ * The grid reflects the positions of the ships at the time it was built.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+class SpatialGrid {
+
+	/**
+	 * Initialize this new grid with the given ships.
+	 *
+	 * @param  ships
+	 * 			The ships to index.
+	 * @post   The size of the cells of this new grid is equal to the average diameter of the given ships.
+	 */
+	SpatialGrid(Collection<Ship> ships) {
+		this.ships = new ArrayList<Ship>(ships);
+		double sumOfDiameters = 0;
+		for (Ship ship : this.ships)
+			sumOfDiameters += 2 * ship.getRadius();
+		this.cellSize = this.ships.isEmpty() ? 1 : sumOfDiameters / this.ships.size();
+		for (Ship ship : this.ships) {
+			int minX = getCellIndex(ship.getxCoordinate() - ship.getRadius());
+			int maxX = getCellIndex(ship.getxCoordinate() + ship.getRadius());
+			int minY = getCellIndex(ship.getyCoordinate() - ship.getRadius());
+			int maxY = getCellIndex(ship.getyCoordinate() + ship.getRadius());
+			if (((long) maxX - minX >= MAX_CELL_SPAN) || ((long) maxY - minY >= MAX_CELL_SPAN)) {
+				largeShips.add(ship);
+				largeShipSet.add(ship);
+				continue;
+			}
+			for (int cx = minX; cx <= maxX; cx++)
+				for (int cy = minY; cy <= maxY; cy++) {
+					List<Ship> cell = cells.get(getCellKey(cx, cy));
+					if (cell == null) {
+						cell = new ArrayList<Ship>(4);
+						cells.put(getCellKey(cx, cy), cell);
+					}
+					cell.add(ship);
+				}
+		}
+	}
+
+	/**
+	 * Constant registering the number of cells along one axis from which a ship is no longer
+	 * registered in the grid, but compared with every other ship.
+	 */
+	private static final int MAX_CELL_SPAN = 8;
+
+	/**
+	 * Variable registering all the ships of this grid.
+	 */
+	private final List<Ship> ships;
+
+	/**
+	 * Variable registering the ships that are too large to be registered in the cells of this grid.
+	 */
+	private final List<Ship> largeShips = new ArrayList<Ship>();
+
+	/**
+	 * Variable registering the same ships as largeShips, for fast lookup.
+	 */
+	private final Set<Ship> largeShipSet = new HashSet<Ship>();
+
+	/**
+	 * Variable registering the ships registered in each non-empty cell of this grid.
+	 */
+	private final Map<Long, List<Ship>> cells = new HashMap<Long, List<Ship>>();
+
+	/**
+	 * Variable registering the length of the sides of the cells of this grid.
+	 */
+	private final double cellSize;
+
+
+	/**
+	 * Return the index of the cell containing the given coordinate.
+	 */
+	private int getCellIndex(double coordinate) {
+		long index = (long) Math.floor(coordinate / cellSize);
+		return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, index));
+	}
+
+	/**
+	 * Return the key of the cell with the given indices.
+	 */
+	private static long getCellKey(int cx, int cy) {
+		return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+	}
+
+
+	/**
+	 * Return all the pairs of overlapping ships in this grid.
+	 *
+	 * @return Each pair of different ships in this grid for which Ship.overlap holds, exactly once.
+	 */
+	List<ShipPair> getOverlappingPairs() {
+		List<ShipPair> result = new ArrayList<ShipPair>();
+		for (Map.Entry<Long, List<Ship>> entry : cells.entrySet()) {
+			int cx = (int) (entry.getKey() >> 32);
+			int cy = (int) entry.getKey().longValue();
+			List<Ship> cell = entry.getValue();
+			for (int i = 0; i < cell.size(); i++)
+				for (int j = i + 1; j < cell.size(); j++) {
+					Ship ship1 = cell.get(i);
+					Ship ship2 = cell.get(j);
+					if (isFirstSharedCell(ship1, ship2, cx, cy) && Ship.overlap(ship1, ship2))
+						result.add(new ShipPair(ship1, ship2));
+				}
+		}
+		for (int i = 0; i < largeShips.size(); i++) {
+			Ship largeShip = largeShips.get(i);
+			for (Ship ship : ships)
+				if ((! largeShipSet.contains(ship)) && Ship.overlap(largeShip, ship))
+					result.add(new ShipPair(largeShip, ship));
+			for (int j = i + 1; j < largeShips.size(); j++)
+				if (Ship.overlap(largeShip, largeShips.get(j)))
+					result.add(new ShipPair(largeShip, largeShips.get(j)));
+		}
+		return result;
+	}
+
+	/**
+	 * Check whether the cell with the given indices is the lowest cell covered by both given ships.
+	 */
+	private boolean isFirstSharedCell(Ship ship1, Ship ship2, int cx, int cy) {
+		return (cx == Math.max(getCellIndex(ship1.getxCoordinate() - ship1.getRadius()),
+								getCellIndex(ship2.getxCoordinate() - ship2.getRadius())))
+			&& (cy == Math.max(getCellIndex(ship1.getyCoordinate() - ship1.getRadius()),
+								getCellIndex(ship2.getyCoordinate() - ship2.getRadius())));
+	}
+
+
+	/**
+	 * Return all the ships in this grid within the given distance of the given point.
+	 *
+	 * @param  xCoordinate
+	 * 			The xCoordinate of the point.
+	 * @param  yCoordinate
+	 * 			The yCoordinate of the point.
+	 * @param  distance
+	 * 			The maximal distance between the point and a ship.
+	 * @return Each ship in this grid for which the distance between its centre and the given point, minus its radius,
+	 * 			does not exceed the given distance, exactly once.
+	 */
+	List<Ship> getShipsWithin(double xCoordinate, double yCoordinate, double distance) {
+		List<Ship> result = new ArrayList<Ship>();
+		double range = Math.max(distance, 0);
+		int minX = getCellIndex(xCoordinate - range);
+		int maxX = getCellIndex(xCoordinate + range);
+		int minY = getCellIndex(yCoordinate - range);
+		int maxY = getCellIndex(yCoordinate + range);
+		if (((double) maxX - minX + 1) * ((double) maxY - minY + 1) > ships.size()) {
+			// Visiting the cells would be more expensive than checking every ship.
+			for (Ship ship : ships)
+				if (isWithin(ship, xCoordinate, yCoordinate, distance))
+					result.add(ship);
+			return result;
+		}
+		for (int cx = minX; cx <= maxX; cx++)
+			for (int cy = minY; cy <= maxY; cy++) {
+				List<Ship> cell = cells.get(getCellKey(cx, cy));
+				if (cell == null)
+					continue;
+				for (Ship ship : cell)
+					if ((cx == Math.max(minX, getCellIndex(ship.getxCoordinate() - ship.getRadius())))
+							&& (cy == Math.max(minY, getCellIndex(ship.getyCoordinate() - ship.getRadius())))
+							&& isWithin(ship, xCoordinate, yCoordinate, distance))
+						result.add(ship);
+			}
+		for (Ship ship : largeShips)
+			if (isWithin(ship, xCoordinate, yCoordinate, distance))
+				result.add(ship);
+		return result;
+	}
+
+	/**
+	 * Check whether the given ship lies within the given distance of the given point.
+	 */
+	private static boolean isWithin(Ship ship, double xCoordinate, double yCoordinate, double distance) {
+		return Math.hypot(ship.getxCoordinate() - xCoordinate, ship.getyCoordinate() - yCoordinate) - ship.getRadius()
+				<= distance;
+	}
+}
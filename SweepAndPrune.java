@@ -0,0 +1,309 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import be.kuleuven.cs.som.annotate.Basic;
+
+/**
+ * A class of indices over the extent of ships along the X-axis, tracking which pairs of ships
+ * overlap along that axis as the ships move.
+ *
+ * The index keeps the lower and upper bound of the interval [x - radius, x + radius] of each ship
+ * in a single sorted array. After the ships have moved, {@link #update()} repairs the order by insertion
+ * sort. Each exchange of two bounds in that sort starts or ends the overlap of exactly one pair of
+ * intervals, so the set of overlapping intervals is kept up to date without comparing every pair of
+ * ships. Since ships only move a little between two updates, the repair takes time close to linear
+ * in the number of ships. Many ships at once are best added through {@link #addShips(Collection)},
+ * which sorts all bounds once and finds the overlapping intervals in a single sweep.
+ *
+ * @invar  The candidate pairs of each index are exactly the pairs of different ships of that index
+ *         whose intervals along the X-axis overlap, as of the last update.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class SweepAndPrune {
+
+	/**
+	 * Initialize this new index without any ships.
+	 *
+	 * @post   | new.getNbShips() == 0
+	 */
+	public SweepAndPrune() {
+	}
+
+	/**
+	 * Initialize this new index with the given ships.
+	 *
+	 * @param  ships
+	 * 			The ships to add.
+	 * @effect | addShips(ships)
+	 */
+	public SweepAndPrune(Collection<Ship> ships) throws IllegalArgumentException {
+		addShips(ships);
+	}
+
+	/**
+	 * Return the number of ships in this index.
+	 */
+	@Basic
+	public int getNbShips() {
+		return this.nbBounds / 2;
+	}
+
+	/**
+	 * Check whether this index contains the given ship.
+	 *
+	 * @param  ship
+	 * 			The ship to check.
+	 */
+	@Basic
+	public boolean hasAsShip(Ship ship) {
+		return lowerBounds.containsKey(ship);
+	}
+
+	/**
+	 * Add the given ship to this index.
+	 *
+	 * @param  ship
+	 * 			The ship to add.
+	 * @post   | new.hasAsShip(ship)
+	 * @throws IllegalArgumentException
+	 * 			The given ship is not effective, or is already in this index.
+	 * 			| (ship == null) || hasAsShip(ship)
+	 */
+	public void addShip(Ship ship) throws IllegalArgumentException {
+		if ((ship == null) || hasAsShip(ship))
+			throw new IllegalArgumentException();
+		ensureCapacity(nbBounds + 2);
+		// The new bounds start beyond all other bounds, as if the new interval lay to the right of all
+		// others, and reach their place through the same exchanges as the bounds of moving ships.
+		appendBounds(ship);
+		sortFrom(nbBounds - 2);
+	}
+
+	/**
+	 * Add the given ships to this index.
+	 *
+	 * @param  ships
+	 * 			The ships to add.
+	 * @post   | for each ship in ships:
+	 * 			|	new.hasAsShip(ship)
+	 * @throws IllegalArgumentException
+	 * 			The given collection is not effective, or one of its ships is not effective, is already
+	 * 			in this index, or appears more than once in the given collection. In that case, this index
+	 * 			is left untouched.
+	 * 			| (ships == null) || (for some ship in ships: (ship == null) || hasAsShip(ship))
+	 */
+	public void addShips(Collection<Ship> ships) throws IllegalArgumentException {
+		if (ships == null)
+			throw new IllegalArgumentException();
+		Map<Ship, Boolean> newShips = new IdentityHashMap<Ship, Boolean>();
+		for (Ship ship : ships)
+			if ((ship == null) || hasAsShip(ship) || (newShips.put(ship, Boolean.TRUE) != null))
+				throw new IllegalArgumentException();
+		ensureCapacity(nbBounds + 2 * ships.size());
+		for (Ship ship : ships)
+			appendBounds(ship);
+		// Inserting each bound on its own would cost an exchange for each bound it passes; sorting all
+		// bounds at once and sweeping over them only costs a comparison sort and the pairs found.
+		Arrays.sort(bounds, 0, nbBounds, BOUND_ORDER);
+		candidatePairs.clear();
+		List<Ship> openShips = new ArrayList<Ship>();
+		Map<Ship, Integer> openIndices = new IdentityHashMap<Ship, Integer>();
+		for (int i = 0; i < nbBounds; i++) {
+			Bound bound = bounds[i];
+			if (bound.isLower) {
+				for (Ship other : openShips)
+					candidatePairs.add(new ShipPair(bound.ship, other));
+				openIndices.put(bound.ship, openShips.size());
+				openShips.add(bound.ship);
+			}
+			else {
+				// The last open ship takes the place of the ship whose interval is closed.
+				int index = openIndices.remove(bound.ship);
+				Ship last = openShips.remove(openShips.size() - 1);
+				if (last != bound.ship) {
+					openShips.set(index, last);
+					openIndices.put(last, index);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Make sure the array of bounds of this index can hold the given number of bounds.
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity > bounds.length)
+			bounds = Arrays.copyOf(bounds, Math.max(capacity, Math.max(16, 2 * bounds.length)));
+	}
+
+	/**
+	 * Append the bounds of the given ship after all bounds of this index, and register them.
+	 */
+	private void appendBounds(Ship ship) {
+		Bound lower = new Bound(ship, true);
+		Bound upper = new Bound(ship, false);
+		lower.value = ship.getxCoordinate() - ship.getRadius();
+		upper.value = ship.getxCoordinate() + ship.getRadius();
+		bounds[nbBounds++] = lower;
+		bounds[nbBounds++] = upper;
+		lowerBounds.put(ship, lower);
+	}
+
+	/**
+	 * Remove the given ship from this index.
+	 *
+	 * @param  ship
+	 * 			The ship to remove.
+	 * @post   | ! new.hasAsShip(ship)
+	 */
+	public void removeShip(Ship ship) {
+		if (lowerBounds.remove(ship) == null)
+			return;
+		int nbRemaining = 0;
+		for (int i = 0; i < nbBounds; i++)
+			if (bounds[i].ship != ship)
+				bounds[nbRemaining++] = bounds[i];
+		Arrays.fill(bounds, nbRemaining, nbBounds, null);
+		nbBounds = nbRemaining;
+		Iterator<ShipPair> iterator = candidatePairs.iterator();
+		while (iterator.hasNext())
+			if (iterator.next().contains(ship))
+				iterator.remove();
+	}
+
+	/**
+	 * Bring this index up to date with the current positions of its ships.
+	 *
+	 * @post   The candidate pairs of this index reflect the current positions of its ships.
+	 */
+	public void update() {
+		for (int i = 0; i < nbBounds; i++) {
+			Bound bound = bounds[i];
+			bound.value = bound.ship.getxCoordinate() + (bound.isLower ? -bound.ship.getRadius() : bound.ship.getRadius());
+		}
+		sortFrom(1);
+	}
+
+	/**
+	 * Restore the order of the bounds of this index by insertion sort, assuming the bounds
+	 * before the given index are already sorted, and update the candidate pairs on each exchange.
+	 */
+	private void sortFrom(int start) {
+		for (int i = Math.max(start, 1); i < nbBounds; i++) {
+			Bound bound = bounds[i];
+			int j = i;
+			while ((j > 0) && bounds[j - 1].comesAfter(bound)) {
+				Bound other = bounds[j - 1];
+				if (other.ship != bound.ship) {
+					// A lower bound moving below an upper bound starts an overlap, an upper bound
+					// moving below a lower bound ends one.
+					if (bound.isLower && ! other.isLower)
+						candidatePairs.add(new ShipPair(bound.ship, other.ship));
+					else if (! bound.isLower && other.isLower)
+						candidatePairs.remove(new ShipPair(bound.ship, other.ship));
+				}
+				bounds[j] = other;
+				j--;
+			}
+			bounds[j] = bound;
+		}
+	}
+
+	/**
+	 * Variable referencing the array of bounds of this index, sorted on their value, of which
+	 * the first nbBounds elements are in use.
+	 */
+	private Bound[] bounds = new Bound[16];
+
+	/**
+	 * Variable registering the number of bounds in this index.
+	 */
+	private int nbBounds = 0;
+
+	/**
+	 * Variable referencing the lower bound of each ship in this index.
+	 */
+	private final Map<Ship, Bound> lowerBounds = new IdentityHashMap<Ship, Bound>();
+
+
+	/**
+	 * Return the pairs of ships of this index whose intervals along the X-axis overlap.
+	 *
+	 * @return A new list containing each candidate pair of this index exactly once.
+	 */
+	public List<ShipPair> getCandidatePairs() {
+		return new ArrayList<ShipPair>(candidatePairs);
+	}
+
+	/**
+	 * Return the pairs of ships of this index that overlap.
+	 *
+	 * @return Each candidate pair of this index whose ships overlap, exactly once.
+	 * 			| for each pair in getCandidatePairs():
+	 * 			|	result.contains(pair) == Ship.overlap(pair.getShip1(), pair.getShip2())
+	 */
+	public List<ShipPair> getOverlappingPairs() {
+		List<ShipPair> result = new ArrayList<ShipPair>();
+		for (ShipPair pair : candidatePairs)
+			if (Ship.overlap(pair.getShip1(), pair.getShip2()))
+				result.add(pair);
+		return result;
+	}
+
+	/**
+	 * Variable referencing the set of pairs of ships whose intervals along the X-axis overlap.
+	 */
+	private final Set<ShipPair> candidatePairs = new LinkedHashSet<ShipPair>();
+
+
+	/**
+	 * A class of lower and upper bounds of the interval of a ship along the X-axis.
+	 */
+	private static class Bound {
+
+		private Bound(Ship ship, boolean isLower) {
+			this.ship = ship;
+			this.isLower = isLower;
+		}
+
+		private final Ship ship;
+
+		private final boolean isLower;
+
+		private double value;
+
+		/**
+		 * Check whether this bound must come after the given bound. Of two bounds with the same value,
+		 * lower bounds come first, so that touching intervals are considered to overlap.
+		 */
+		private boolean comesAfter(Bound other) {
+			return (this.value > other.value) || ((this.value == other.value) && ! this.isLower && other.isLower);
+		}
+	}
+
+	/**
+	 * The order of bounds in which {@link Bound#comesAfter(Bound)} places them.
+	 */
+	private static final Comparator<Bound> BOUND_ORDER = new Comparator<Bound>() {
+		@Override
+		public int compare(Bound bound1, Bound bound2) {
+			if (bound1.comesAfter(bound2))
+				return 1;
+			if (bound2.comesAfter(bound1))
+				return -1;
+			return 0;
+		}
+	};
+}
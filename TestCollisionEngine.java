@@ -0,0 +1,150 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Collision;
+import asteroids.model.CollisionEngine;
+import asteroids.model.CollisionResponse;
+import asteroids.model.Ship;
+import asteroids.model.World;
+
+public class TestCollisionEngine {
+	
+	private World myWorld;
+	private Ship ship_Left, ship_Right, ship_Far;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myWorld = new World();
+		ship_Left = new Ship(-50, 0, 10, 0, 10, 0);
+		ship_Right = new Ship(50, 0, -10, 0, 10, Math.PI);
+		ship_Far = new Ship(0, 1000, 0, 0, 10, 0);
+		myWorld.addShip(ship_Left);
+		myWorld.addShip(ship_Right);
+		myWorld.addShip(ship_Far);
+	}
+	
+	@Test
+	public void advance_BounceCase() {
+		CollisionEngine engine = new CollisionEngine(myWorld, CollisionResponse.BOUNCE);
+		List<Collision> collisions = engine.advance(10);
+		assertEquals(collisions.size(), 1);
+		assertEquals(collisions.get(0).getTime(), 4, EPSILON);
+		assertEquals(engine.getClock(), 10, EPSILON);
+		assertEquals(engine.getNbCollisions(), 1);
+		assertEquals(ship_Left.getxVelocity(), -10, EPSILON);
+		assertEquals(ship_Right.getxVelocity(), 10, EPSILON);
+		assertEquals(ship_Left.getxCoordinate(), -70, EPSILON);
+		assertEquals(ship_Right.getxCoordinate(), 70, EPSILON);
+	}
+	
+	@Test
+	public void advance_NoCollisionCase() {
+		CollisionEngine engine = new CollisionEngine(myWorld, CollisionResponse.BOUNCE);
+		assertTrue(engine.advance(3).isEmpty());
+		assertEquals(ship_Left.getxCoordinate(), -20, EPSILON);
+		assertEquals(engine.getNbCollisions(), 0);
+	}
+	
+	@Test
+	public void advance_MergeCase() {
+		CollisionEngine engine = new CollisionEngine(myWorld, CollisionResponse.MERGE);
+		engine.advance(10);
+		assertEquals(myWorld.getNbShips(), 2);
+		assertFalse(myWorld.hasAsShip(ship_Left));
+		assertFalse(myWorld.hasAsShip(ship_Right));
+		for (Ship ship : myWorld.getShips())
+			if (ship != ship_Far) {
+				assertEquals(ship.getxCoordinate(), 0, EPSILON);
+				assertEquals(ship.getxVelocity(), 0, EPSILON);
+				assertEquals(ship.getRadius(), Math.cbrt(2000), EPSILON);
+			}
+	}
+	
+	@Test
+	public void advance_DestroyCase() {
+		CollisionEngine engine = new CollisionEngine(myWorld, CollisionResponse.DESTROY);
+		engine.advance(10);
+		assertEquals(myWorld.getNbShips(), 1);
+		assertTrue(myWorld.hasAsShip(ship_Far));
+	}
+	
+	@Test
+	public void advance_ChainCase() {
+		World world = new World();
+		Ship ship1 = new Ship(0, 0, 10, 0, 10, 0);
+		Ship ship2 = new Ship(100, 0, 0, 0, 10, 0);
+		Ship ship3 = new Ship(200, 0, 0, 0, 10, 0);
+		world.addShip(ship1);
+		world.addShip(ship2);
+		world.addShip(ship3);
+		CollisionEngine engine = new CollisionEngine(world, CollisionResponse.BOUNCE);
+		List<Collision> collisions = engine.advance(20);
+		assertEquals(collisions.size(), 2);
+		assertEquals(collisions.get(0).getTime(), 8, EPSILON);
+		assertEquals(collisions.get(1).getTime(), 16, EPSILON);
+		assertEquals(ship1.getxVelocity(), 0, EPSILON);
+		assertEquals(ship2.getxVelocity(), 0, EPSILON);
+		assertEquals(ship3.getxVelocity(), 10, EPSILON);
+	}
+	
+	@Test
+	public void advanceToNextCollision_RegularCase() {
+		CollisionEngine engine = new CollisionEngine(myWorld, CollisionResponse.BOUNCE);
+		Collision collision = engine.advanceToNextCollision();
+		assertEquals(collision.getTime(), 4, EPSILON);
+		assertEquals(engine.getClock(), 4, EPSILON);
+		assertEquals(collision.getPosition().getxCoordinate(), 0, EPSILON);
+	}
+	
+	@Test
+	public void advanceToNextCollision_NoneCase() {
+		CollisionEngine engine = new CollisionEngine(myWorld, CollisionResponse.DESTROY);
+		engine.advanceToNextCollision();
+		assertNull(engine.advanceToNextCollision());
+		assertEquals(engine.getClock(), 4, EPSILON);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void constructor_NonEffectiveResponseCase() {
+		new CollisionEngine(myWorld, null);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void advance_InfiniteDurationCase() {
+		new CollisionEngine(myWorld, CollisionResponse.BOUNCE).advance(Double.POSITIVE_INFINITY);
+	}
+	@Test
+	public void advance_UnchangedShipsCase() {
+		CollisionResponse ignore = new CollisionResponse() {
+			@Override
+			public void resolve(World world, Collision collision) {
+			}
+		};
+		CollisionEngine engine = new CollisionEngine(myWorld, ignore);
+		List<Collision> collisions = engine.advance(10);
+		assertEquals(collisions.size(), 1);
+		assertEquals(collisions.get(0).getTime(), 4, EPSILON);
+		assertEquals(engine.getClock(), 10, EPSILON);
+		assertEquals(ship_Left.getxCoordinate(), 50, EPSILON);
+	}
+	
+	@Test
+	public void advanceToNextCollision_UnchangedShipsCase() {
+		CollisionResponse ignore = new CollisionResponse() {
+			@Override
+			public void resolve(World world, Collision collision) {
+			}
+		};
+		CollisionEngine engine = new CollisionEngine(myWorld, ignore);
+		assertNotNull(engine.advanceToNextCollision());
+		assertNull(engine.advanceToNextCollision());
+	}
+	
+}
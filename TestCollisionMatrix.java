@@ -0,0 +1,104 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Collision;
+import asteroids.model.CollisionMatrix;
+import asteroids.model.Ship;
+
+public class TestCollisionMatrix {
+	
+	private List<Ship> fleet;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		Random random = new Random(11);
+		fleet = new ArrayList<Ship>();
+		for (int i = 0; i < 300; i++)
+			fleet.add(new Ship(random.nextDouble() * 5000, random.nextDouble() * 5000,
+					random.nextDouble() * 200 - 100, random.nextDouble() * 200 - 100, 10 + random.nextDouble() * 30, 0));
+	}
+	
+	@Test
+	public void getIndex_RegularCase() {
+		assertEquals(CollisionMatrix.getIndex(0, 1, 4), 0);
+		assertEquals(CollisionMatrix.getIndex(0, 3, 4), 2);
+		assertEquals(CollisionMatrix.getIndex(1, 2, 4), 3);
+		assertEquals(CollisionMatrix.getIndex(2, 3, 4), 5);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void getIndex_IllegalCase() {
+		CollisionMatrix.getIndex(2, 2, 4);
+	}
+	
+	@Test
+	public void compute_RegularCase() {
+		double[] times = CollisionMatrix.compute(fleet);
+		assertEquals(times.length, fleet.size() * (fleet.size() - 1) / 2);
+		boolean overlapFound = false;
+		for (int i = 0; i < fleet.size(); i++)
+			for (int j = i + 1; j < fleet.size(); j++) {
+				double time = times[CollisionMatrix.getIndex(i, j, fleet.size())];
+				if (Ship.overlap(fleet.get(i), fleet.get(j))) {
+					assertTrue(Double.isNaN(time));
+					overlapFound = true;
+				}
+				else
+					assertEquals(time, Ship.getTimeToCollision(fleet.get(i), fleet.get(j)), 0);
+			}
+		assertTrue(overlapFound);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void compute_NonEffectiveCase() {
+		fleet.add(null);
+		CollisionMatrix.compute(fleet);
+	}
+	
+	@Test
+	public void getMinimalTime_RegularCase() {
+		double expected = Double.POSITIVE_INFINITY;
+		for (int i = 0; i < fleet.size(); i++)
+			for (int j = i + 1; j < fleet.size(); j++)
+				if (! Ship.overlap(fleet.get(i), fleet.get(j)))
+					expected = Math.min(expected, Ship.getTimeToCollision(fleet.get(i), fleet.get(j)));
+		assertEquals(CollisionMatrix.getMinimalTime(fleet), expected, 0);
+	}
+	
+	@Test
+	public void getMinimalTime_EmptyCase() {
+		assertEquals(CollisionMatrix.getMinimalTime(new ArrayList<Ship>()), Double.POSITIVE_INFINITY, 0);
+	}
+	
+	@Test
+	public void getEarliestCollisions_RegularCase() {
+		List<Collision> collisions = CollisionMatrix.getEarliestCollisions(fleet, 5);
+		assertEquals(collisions.size(), 5);
+		assertEquals(collisions.get(0).getTime(), CollisionMatrix.getMinimalTime(fleet), EPSILON);
+		for (int k = 1; k < collisions.size(); k++)
+			assertTrue(collisions.get(k - 1).getTime() <= collisions.get(k).getTime());
+		int nbEarlier = 0;
+		double[] times = CollisionMatrix.compute(fleet);
+		for (double time : times)
+			if (time < collisions.get(4).getTime())
+				nbEarlier++;
+		assertTrue(nbEarlier <= 4);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void compute_TooManyShipsCase() {
+		// 65537 ships have 2147516416 pairs, just beyond Integer.MAX_VALUE, while 65536 ships would still fit.
+		CollisionMatrix.compute(Collections.nCopies(65537, new Ship(0, 0, 10)));
+	}
+	
+}
@@ -0,0 +1,94 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Collision;
+import asteroids.model.CollisionQueue;
+import asteroids.model.Ship;
+import asteroids.model.World;
+
+public class TestCollisionQueue {
+	
+	private World myWorld;
+	private CollisionQueue myQueue;
+	private Ship ship_Collision1, ship_Collision2, ship_Collision3;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myWorld = new World();
+		ship_Collision1 = new Ship(-20, -20, 1, 1, 10, 0);
+		ship_Collision2 = new Ship(20, 20, -2, -2, 10, 0);
+		ship_Collision3 = new Ship(1000, 0, 0, 0, 10, Math.PI);
+		myWorld.addShip(ship_Collision1);
+		myWorld.addShip(ship_Collision2);
+		myWorld.addShip(ship_Collision3);
+		myQueue = new CollisionQueue(myWorld);
+	}
+	
+	@Test
+	public void getNextCollision_RegularCase() {
+		Collision collision = myQueue.getNextCollision();
+		assertTrue(collision.getShip1() == ship_Collision1 || collision.getShip2() == ship_Collision1);
+		assertTrue(collision.getShip1() == ship_Collision2 || collision.getShip2() == ship_Collision2);
+		assertEquals(collision.getTime(), Ship.getTimeToCollision(ship_Collision1, ship_Collision2), EPSILON);
+		assertEquals(collision.getPosition().getxCoordinate(),
+				Ship.getCollisionPosition(ship_Collision1, ship_Collision2).getxCoordinate(), EPSILON);
+	}
+	
+	@Test
+	public void getNextCollision_NoCollisionCase() {
+		myWorld.removeShip(ship_Collision2);
+		assertNull(myQueue.getNextCollision());
+	}
+	
+	@Test
+	public void getNextCollision_AfterAdvance() {
+		double time = myQueue.getNextCollision().getTime();
+		myQueue.advance(1);
+		assertEquals(myQueue.getClock(), 1, EPSILON);
+		assertEquals(myQueue.getNextCollision().getTime(), time - 1, EPSILON);
+	}
+	
+	@Test
+	public void getNextCollision_AfterThrust() {
+		myQueue.getNextCollision();
+		ship_Collision3.thrust(1000);
+		Collision collision = myQueue.getNextCollision();
+		assertEquals(collision.getTime(), Ship.getTimeToCollision(ship_Collision3, ship_Collision2), EPSILON);
+	}
+	
+	@Test
+	public void getNextCollision_AfterExternalMove() {
+		myQueue.getNextCollision();
+		ship_Collision1.move(5);
+		Collision collision = myQueue.getNextCollision();
+		assertEquals(collision.getTime(), Ship.getTimeToCollision(ship_Collision1, ship_Collision2), EPSILON);
+	}
+	
+	@Test
+	public void getNextCollision_RandomCase() {
+		Random random = new Random(7);
+		World world = new World();
+		for (int i = 0; i < 100; i++)
+			world.addShip(new Ship(random.nextDouble() * 10000, random.nextDouble() * 10000,
+					random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, 10, random.nextDouble() * Math.PI));
+		CollisionQueue queue = new CollisionQueue(world);
+		for (int step = 0; step < 5; step++) {
+			double expected = Double.POSITIVE_INFINITY;
+			for (Ship ship1 : world.getShips())
+				for (Ship ship2 : world.getShips())
+					if ((ship1 != ship2) && ! Ship.overlap(ship1, ship2))
+						expected = Math.min(expected, Ship.getTimeToCollision(ship1, ship2));
+			Collision collision = queue.getNextCollision();
+			assertEquals(collision.getTime(), expected, EPSILON);
+			queue.advance(collision.getTime() / 2);
+			world.getShips().iterator().next().thrust(5);
+		}
+	}
+}
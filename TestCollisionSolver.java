@@ -0,0 +1,80 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+
+import asteroids.model.CollisionSolver;
+import asteroids.model.Ship;
+
+public class TestCollisionSolver {
+	
+	private static final double EPSILON = 0.00001;
+	
+	@After
+	public void tearDown() throws Exception {
+		CollisionSolver.setSelected(CollisionSolver.STABLE);
+	}
+	
+	@Test
+	public void solve_HeadOnCase() {
+		// Circles with radii 10 and 10, 100 apart, approaching at 10 per second.
+		for (CollisionSolver solver : CollisionSolver.values())
+			assertEquals(solver.name(), 8, solver.solve(-100, 0, 10, 0, 20), EPSILON);
+	}
+	
+	@Test
+	public void solve_ObliqueCase() {
+		double expected = CollisionSolver.LEGACY.solve(-40, -40, 3, 3, 20);
+		for (CollisionSolver solver : CollisionSolver.values())
+			assertEquals(solver.name(), expected, solver.solve(-40, -40, 3, 3, 20), EPSILON);
+	}
+	
+	@Test
+	public void solve_NoCollisionCase() {
+		for (CollisionSolver solver : CollisionSolver.values()) {
+			assertEquals(solver.name(), Double.POSITIVE_INFINITY, solver.solve(-100, 0, -10, 0, 20), 0);
+			assertEquals(solver.name(), Double.POSITIVE_INFINITY, solver.solve(-100, 50, 10, 0, 20), 0);
+			assertEquals(solver.name(), Double.POSITIVE_INFINITY, solver.solve(-100, 0, 0, 0, 20), 0);
+		}
+	}
+	
+	@Test
+	public void solve_NearlyTouchingCase() {
+		// The gap is exactly representable, so the exact time is gap / speed. The textbook form of the
+		//  root loses about half of its significant digits here.
+		double dx = -(20 + Math.scalb(1.0, -40));
+		double expected = (- dx - 20) / 100000;
+		assertEquals(expected, CollisionSolver.FMA.solve(dx, 0, 100000, 0, 20), expected * 1E-12);
+		assertEquals(expected, CollisionSolver.STABLE.solve(dx, 0, 100000, 0, 20), expected * 1E-9);
+		assertTrue(Math.abs(CollisionSolver.LEGACY.solve(dx, 0, 100000, 0, 20) - expected) > expected * 1E-6);
+	}
+	
+	@Test
+	public void solve_OverflowCase() {
+		assertEquals(Double.POSITIVE_INFINITY, CollisionSolver.STABLE.solve(-1E200, 0, 100, 0, 20), 0);
+		assertEquals(Double.POSITIVE_INFINITY, CollisionSolver.FLOAT.solve(-1E30, 0, 100, 0, 20), 0);
+	}
+	
+	@Test
+	public void solve_TouchingCase() {
+		assertEquals(0, CollisionSolver.STABLE.solve(-20, 0, 10, 0, 20), 0);
+	}
+	
+	@Test
+	public void setSelected_ShipsUseSolver() {
+		Ship ship1 = new Ship(-20, -20, 1, 1, 10, 0);
+		Ship ship2 = new Ship(20, 20, -2, -2, 10, 0);
+		CollisionSolver.setSelected(CollisionSolver.LEGACY);
+		double legacy = Ship.getTimeToCollision(ship1, ship2);
+		CollisionSolver.setSelected(CollisionSolver.FLOAT);
+		assertSame(CollisionSolver.FLOAT, CollisionSolver.getSelected());
+		assertEquals(legacy, Ship.getTimeToCollision(ship1, ship2), EPSILON);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void setSelected_NullCase() {
+		CollisionSolver.setSelected(null);
+	}
+}
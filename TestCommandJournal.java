@@ -0,0 +1,126 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.facade.CommandJournal;
+import asteroids.facade.Facade;
+import asteroids.facade.JournalingFacade;
+import asteroids.model.Ship;
+import asteroids.util.ModelException;
+
+public class TestCommandJournal {
+	
+	private Path myPath;
+	private CommandJournal myJournal;
+	private JournalingFacade myFacade;
+	
+	@Before
+	public void setUp() throws Exception {
+		myPath = Files.createTempFile("commands", ".journal");
+		myJournal = new CommandJournal(myPath, 3);
+		myFacade = new JournalingFacade(myJournal);
+	}
+	
+	@After
+	public void tearDown() throws Exception {
+		myJournal.close();
+		Files.deleteIfExists(myPath);
+	}
+	
+	@Test
+	public void replay_SameStateCase() throws Exception {
+		Ship ship1 = myFacade.createShip(0, 0, 10, 0, 10, 0);
+		Ship ship2 = myFacade.createShip();
+		myFacade.thrust(ship1, 5);
+		myFacade.move(ship1, 2);
+		myFacade.turn(ship2, 1);
+		myFacade.thrust(ship2, 20);
+		myFacade.move(ship2, 3);
+		myJournal.close();
+		assertEquals(myJournal.getNbEntries(), 7);
+		List<Ship> ships = CommandJournal.replay(myPath, new Facade());
+		assertEquals(ships.size(), 2);
+		assertEquals(ships.get(0).getxCoordinate(), ship1.getxCoordinate(), 0);
+		assertEquals(ships.get(0).getxVelocity(), ship1.getxVelocity(), 0);
+		assertEquals(ships.get(1).getxCoordinate(), ship2.getxCoordinate(), 0);
+		assertEquals(ships.get(1).getyCoordinate(), ship2.getyCoordinate(), 0);
+		assertEquals(ships.get(1).getOrientation(), ship2.getOrientation(), 0);
+	}
+	
+	@Test
+	public void replay_ManyEntriesCase() throws Exception {
+		Ship ship = myFacade.createShip(0, 0, 1, 0, 10, 0);
+		for (int i = 0; i < 10000; i++)
+			myFacade.move(ship, 0.5);
+		myJournal.close();
+		List<Ship> ships = CommandJournal.replay(myPath, new Facade());
+		assertEquals(ships.get(0).getxCoordinate(), ship.getxCoordinate(), 0);
+	}
+	
+	@Test
+	public void move_FailedCallCase() throws Exception {
+		Ship ship = myFacade.createShip();
+		try {
+			myFacade.move(ship, -1);
+			fail();
+		}
+		catch (ModelException exc) {
+			assertEquals(myJournal.getNbEntries(), 1);
+		}
+	}
+	
+	@Test(expected=ModelException.class)
+	public void move_UnknownShipCase() throws Exception {
+		myFacade.move(new Ship(0, 0, 10), 1);
+	}
+	
+	@Test(expected=IOException.class)
+	public void replay_TruncatedFileCase() throws Exception {
+		myFacade.createShip();
+		myJournal.close();
+		byte[] bytes = Files.readAllBytes(myPath);
+		Files.write(myPath, Arrays.copyOf(bytes, bytes.length - 4));
+		CommandJournal.replay(myPath, new Facade());
+	}
+	@Test
+	public void replay_MoveAllCase() throws Exception {
+		Ship ship1 = myFacade.createShip(0, 0, 10, 0, 10, 0);
+		Ship ship2 = myFacade.createShip(100, 0, 0, 5, 10, 0);
+		Ship foreignShip = new Ship(0, 0, 10);
+		int[] status = new int[3];
+		assertEquals(myFacade.moveAll(new Ship[] {ship1, foreignShip, ship2}, 2, status), 1);
+		assertEquals(status[0], Facade.STATUS_OK);
+		assertEquals(status[1], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(status[2], Facade.STATUS_OK);
+		assertEquals(myFacade.moveAll(new Ship[] {ship1, ship2}, -1, status), 2);
+		myJournal.close();
+		assertEquals(myJournal.getNbEntries(), 4);
+		List<Ship> ships = CommandJournal.replay(myPath, new Facade());
+		assertEquals(ships.get(0).getxCoordinate(), ship1.getxCoordinate(), 0);
+		assertEquals(ships.get(1).getyCoordinate(), ship2.getyCoordinate(), 0);
+	}
+	
+	@Test
+	public void recordCreateShip_FailedWriteCase() throws Exception {
+		Ship ship = new Ship(0, 0, 10);
+		myJournal.close();
+		try {
+			myJournal.recordCreateShip(ship);
+			fail();
+		}
+		catch (IOException exc) {
+			assertFalse(myJournal.isKnownShip(ship));
+		}
+	}
+	
+}
@@ -0,0 +1,107 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.ConcurrentShip;
+import asteroids.model.IllegalCoordinateException;
+import asteroids.model.IllegalRadiusException;
+import asteroids.model.Ship;
+import asteroids.model.ShipState;
+
+public class TestConcurrentShip {
+	
+	private ConcurrentShip myShip;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myShip = new ConcurrentShip(0, 0, 10, 0, 10, 0);
+	}
+	
+	@Test
+	public void constructor_LegalCase() {
+		assertEquals(myShip.getPosition().getxCoordinate(), 0, EPSILON);
+		assertEquals(myShip.getVelocity().getxComponent(), 10, EPSILON);
+		assertEquals(myShip.getRadius(), 10, EPSILON);
+		assertEquals(myShip.getNbModifications(), 0);
+	}
+	
+	@Test(expected=IllegalRadiusException.class)
+	public void constructor_IllegalRadiusCase() {
+		new ConcurrentShip(0, 0, 0, 0, 1, 0);
+	}
+	
+	@Test
+	public void move_LegalCase() {
+		myShip.move(2);
+		assertEquals(myShip.getPosition().getxCoordinate(), 20, EPSILON);
+		assertEquals(myShip.getNbModifications(), 1);
+	}
+	
+	@Test
+	public void move_IllegalCoordinateCase() {
+		ShipState before = myShip.getState();
+		try {
+			myShip.move(Double.POSITIVE_INFINITY);
+			fail();
+		}
+		catch (IllegalCoordinateException exc) {
+			assertSame(myShip.getState(), before);
+		}
+	}
+	
+	@Test
+	public void thrust_SpeedLimitCase() {
+		myShip.thrust(1e6);
+		assertEquals(myShip.getVelocity().getSpeed(), Ship.SPEED_OF_LIGHT, EPSILON);
+	}
+	
+	@Test
+	public void thrust_NegativeAmountCase() {
+		ShipState before = myShip.getState();
+		myShip.thrust(-5);
+		assertSame(myShip.getState(), before);
+	}
+	
+	@Test
+	public void turn_LegalCase() {
+		myShip.turn(Math.PI / 2);
+		myShip.thrust(10);
+		assertEquals(myShip.getVelocity().getyComponent(), 10, EPSILON);
+	}
+	
+	@Test
+	public void toShip_SameStateCase() {
+		myShip.move(3);
+		Ship ship = myShip.toShip();
+		assertEquals(ship.getxCoordinate(), 30, EPSILON);
+		assertEquals(ship.getxVelocity(), 10, EPSILON);
+		assertEquals(ship.getRadius(), 10, EPSILON);
+	}
+	
+	@Test
+	public void move_ConcurrentCase() throws Exception {
+		final ConcurrentShip ship = new ConcurrentShip(0, 0, 1, 1, 10, 0);
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						ship.move(1);
+						ShipState state = ship.getState();
+						assertEquals(state.getPosition().getxCoordinate(), state.getPosition().getyCoordinate(), 0);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(ship.getNbModifications(), 40000);
+		assertEquals(ship.getPosition().getxCoordinate(), 40000, EPSILON);
+	}
+}
@@ -0,0 +1,142 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.DeltaDecoder;
+import asteroids.model.DeltaEncoder;
+import asteroids.model.Ship;
+
+public class TestDeltaEncoder {
+	
+	private DeltaEncoder myEncoder;
+	private DeltaDecoder myDecoder;
+	private List<Ship> myFleet;
+	private static final double QUANTUM = 0.001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myEncoder = new DeltaEncoder(QUANTUM, QUANTUM, QUANTUM);
+		myDecoder = new DeltaDecoder(QUANTUM, QUANTUM, QUANTUM);
+		myFleet = new ArrayList<Ship>();
+		for (int i = 0; i < 10; i++) {
+			Ship ship = new Ship(i * 100, -i * 50, i, -i, 10, 0.1 * i);
+			myFleet.add(ship);
+			myEncoder.addShip(ship);
+		}
+	}
+	
+	private void assertDecoded() {
+		assertEquals(myDecoder.getNbShips(), myFleet.size());
+		for (int i = 0; i < myFleet.size(); i++) {
+			Ship ship = myFleet.get(i);
+			assertEquals(myDecoder.getxCoordinate(i), ship.getxCoordinate(), QUANTUM / 2);
+			assertEquals(myDecoder.getyCoordinate(i), ship.getyCoordinate(), QUANTUM / 2);
+			assertEquals(myDecoder.getxVelocity(i), ship.getxVelocity(), QUANTUM / 2);
+			assertEquals(myDecoder.getyVelocity(i), ship.getyVelocity(), QUANTUM / 2);
+			assertEquals(myDecoder.getOrientation(i), ship.getOrientation(), QUANTUM / 2);
+		}
+	}
+	
+	@Test
+	public void encode_FirstFrameCase() {
+		// The first ship is entirely zero, which the decoder already assumes.
+		assertEquals(myDecoder.decode(myEncoder.encode()), 9);
+		assertDecoded();
+	}
+	
+	@Test
+	public void encode_UnchangedFleetCase() {
+		myDecoder.decode(myEncoder.encode());
+		ByteBuffer frame = myEncoder.encode();
+		assertEquals(frame.remaining(), 2);
+		assertEquals(myDecoder.decode(frame), 0);
+		assertDecoded();
+	}
+	
+	@Test
+	public void encode_SingleChangeCase() {
+		myDecoder.decode(myEncoder.encode());
+		myFleet.get(3).move(0.01);
+		ByteBuffer frame = myEncoder.encode();
+		assertTrue(frame.remaining() <= 10);
+		assertEquals(myDecoder.decode(frame), 1);
+		assertDecoded();
+	}
+	
+	@Test
+	public void encode_AddedShipCase() {
+		myDecoder.decode(myEncoder.encode());
+		Ship ship = new Ship(-5, 5, 10);
+		myFleet.add(ship);
+		assertEquals(myEncoder.addShip(ship), 10);
+		assertEquals(myDecoder.decode(myEncoder.encode()), 1);
+		assertDecoded();
+	}
+	
+	@Test
+	public void encode_RandomTicksCase() {
+		Random random = new Random(5);
+		for (int tick = 0; tick < 200; tick++) {
+			for (Ship ship : myFleet) {
+				if (random.nextBoolean())
+					ship.thrust(random.nextDouble() * 1000);
+				ship.move(random.nextDouble());
+				if (ship.getOrientation() < Math.PI)
+					ship.turn(random.nextDouble());
+			}
+			myDecoder.decode(myEncoder.encode());
+			assertDecoded();
+		}
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void decode_TruncatedFrameCase() {
+		ByteBuffer frame = myEncoder.encode();
+		frame.limit(frame.limit() - 1);
+		myDecoder.decode(frame);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void constructor_IllegalQuantumCase() {
+		new DeltaEncoder(0, 1, 1);
+	}
+	
+	@Test
+	public void encode_UnquantizableFieldCase() {
+		myDecoder.decode(myEncoder.encode());
+		myEncoder.addShip(new Ship(1E16, 0, 10));
+		try {
+			myEncoder.encode();
+			fail();
+		}
+		catch (IllegalArgumentException exc) {
+			assertEquals(myEncoder.getNbShips(), 11);
+		}
+	}
+	
+	@Test
+	public void decode_MalformedFrameCase() {
+		myDecoder.decode(myEncoder.encode());
+		double xCoordinate = myDecoder.getxCoordinate(0);
+		// The first entry is valid and changes the xCoordinate of ship 0, the second refers to ship 20 of 12.
+		ByteBuffer frame = ByteBuffer.wrap(new byte[] {12, 2, 0, 1, 2, 20, 1, 2});
+		try {
+			myDecoder.decode(frame);
+			fail();
+		}
+		catch (IllegalArgumentException exc) {
+			assertEquals(myDecoder.getNbShips(), 10);
+			assertEquals(myDecoder.getxCoordinate(0), xCoordinate, 0);
+			assertEquals(frame.position(), 0);
+		}
+	}
+	
+}
@@ -0,0 +1,188 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.facade.Facade;
+import asteroids.model.Ship;
+import asteroids.util.ModelException;
+
+public class TestFacade {
+	
+	private Facade myFacade;
+	private Ship ship_Left, ship_Right, ship_Overlapping;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myFacade = new Facade();
+		ship_Left = new Ship(-50, 0, 10, 0, 10, 0);
+		ship_Right = new Ship(50, 0, -10, 0, 10, Math.PI);
+		ship_Overlapping = new Ship(-45, 0, 0, 0, 10, 0);
+	}
+	
+	@Test
+	public void moveAll_LegalCase() throws Exception {
+		int[] status = new int[2];
+		assertEquals(myFacade.moveAll(new Ship[] {ship_Left, ship_Right}, 2, status), 0);
+		assertEquals(status[0], Facade.STATUS_OK);
+		assertEquals(status[1], Facade.STATUS_OK);
+		assertEquals(ship_Left.getxCoordinate(), -30, EPSILON);
+		assertEquals(ship_Right.getxCoordinate(), 30, EPSILON);
+	}
+	
+	@Test
+	public void moveAll_NullShipCase() throws Exception {
+		int[] status = new int[3];
+		assertEquals(myFacade.moveAll(new Ship[] {ship_Left, null, ship_Right}, 1, status), 1);
+		assertEquals(status[0], Facade.STATUS_OK);
+		assertEquals(status[1], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(status[2], Facade.STATUS_OK);
+		assertEquals(ship_Right.getxCoordinate(), 40, EPSILON);
+	}
+	
+	@Test
+	public void moveAll_IllegalDurationCase() throws Exception {
+		int[] status = new int[2];
+		assertEquals(myFacade.moveAll(new Ship[] {ship_Left, ship_Right}, -1, status), 2);
+		assertEquals(status[0], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(status[1], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(myFacade.moveAll(new Ship[] {ship_Left}, Double.NaN, status), 1);
+		assertEquals(status[0], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(ship_Left.getxCoordinate(), -50, EPSILON);
+	}
+	
+	@Test(expected=ModelException.class)
+	public void moveAll_SmallStatusCase() throws Exception {
+		myFacade.moveAll(new Ship[] {ship_Left, ship_Right}, 1, new int[1]);
+	}
+	
+	@Test(expected=ModelException.class)
+	public void moveAll_NullStatusCase() throws Exception {
+		myFacade.moveAll(new Ship[] {ship_Left}, 1, null);
+	}
+	
+	@Test
+	public void getShipPositions_LegalCase() throws Exception {
+		double[] out = new double[6];
+		int[] status = new int[3];
+		assertEquals(myFacade.getShipPositions(new Ship[] {ship_Left, null, ship_Right}, out, status), 1);
+		assertEquals(out[0], -50, EPSILON);
+		assertEquals(out[1], 0, EPSILON);
+		assertTrue(Double.isNaN(out[2]) && Double.isNaN(out[3]));
+		assertEquals(out[4], 50, EPSILON);
+		assertEquals(status[0], Facade.STATUS_OK);
+		assertEquals(status[1], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(status[2], Facade.STATUS_OK);
+	}
+	
+	@Test(expected=ModelException.class)
+	public void getShipPositions_SmallBufferCase() throws Exception {
+		myFacade.getShipPositions(new Ship[] {ship_Left, ship_Right}, new double[3], new int[2]);
+	}
+	
+	@Test
+	public void getShipVelocities_LegalCase() throws Exception {
+		double[] out = new double[4];
+		int[] status = new int[2];
+		assertEquals(myFacade.getShipVelocities(new Ship[] {null, ship_Right}, out, status), 1);
+		assertTrue(Double.isNaN(out[0]) && Double.isNaN(out[1]));
+		assertEquals(out[2], -10, EPSILON);
+		assertEquals(out[3], 0, EPSILON);
+		assertEquals(status[0], Facade.STATUS_ILLEGAL_ARGUMENT);
+		assertEquals(status[1], Facade.STATUS_OK);
+	}
+	
+	@Test(expected=ModelException.class)
+	public void getShipVelocities_SmallStatusCase() throws Exception {
+		myFacade.getShipVelocities(new Ship[] {ship_Left, ship_Right}, new double[4], new int[1]);
+	}
+	
+	@Test
+	public void getTimesToCollision_LegalCase() throws Exception {
+		double[] out = new double[3];
+		int[] status = new int[3];
+		Ship[] ships1 = {ship_Left, ship_Left, null};
+		Ship[] ships2 = {ship_Right, ship_Overlapping, ship_Right};
+		assertEquals(myFacade.getTimesToCollision(ships1, ships2, out, status), 2);
+		assertEquals(out[0], 4, EPSILON);
+		assertTrue(Double.isNaN(out[1]));
+		assertTrue(Double.isNaN(out[2]));
+		assertEquals(status[0], Facade.STATUS_OK);
+		assertEquals(status[1], Facade.STATUS_OVERLAP);
+		assertEquals(status[2], Facade.STATUS_ILLEGAL_ARGUMENT);
+	}
+	
+	@Test
+	public void getTimesToCollision_NoCollisionCase() throws Exception {
+		double[] out = new double[1];
+		int[] status = new int[1];
+		assertEquals(myFacade.getTimesToCollision(new Ship[] {ship_Left}, new Ship[] {new Ship(0, 1000, 0, 10, 10, 0)}, out, status), 0);
+		assertEquals(out[0], Double.POSITIVE_INFINITY, 0);
+		assertEquals(status[0], Facade.STATUS_OK);
+	}
+	
+	@Test(expected=ModelException.class)
+	public void getTimesToCollision_SmallBufferCase() throws Exception {
+		myFacade.getTimesToCollision(new Ship[] {ship_Left, ship_Left}, new Ship[] {ship_Right, ship_Right},
+				new double[1], new int[2]);
+	}
+	
+	@Test(expected=ModelException.class)
+	public void getTimesToCollision_ShortSecondArrayCase() throws Exception {
+		myFacade.getTimesToCollision(new Ship[] {ship_Left, ship_Left}, new Ship[] {ship_Right},
+				new double[2], new int[2]);
+	}
+	
+	@Test
+	public void getCollisionPosition_OverlapCase() {
+		try {
+			myFacade.getCollisionPosition(ship_Left, ship_Overlapping);
+			fail();
+		}
+		catch (ModelException exc) {
+			assertEquals(exc.getMessage(), "The ships overlap!");
+			assertNull(exc.getCause());
+		}
+	}
+	
+	@Test
+	public void getCollisionPosition_LegalCase() throws Exception {
+		double[] position = myFacade.getCollisionPosition(ship_Left, ship_Right);
+		assertEquals(position[0], 0, EPSILON);
+		assertEquals(position[1], 0, EPSILON);
+		assertNull(myFacade.getCollisionPosition(ship_Left, new Ship(0, 1000, 0, 10, 10, 0)));
+	}
+	
+	@Test(expected=ModelException.class)
+	public void getCollisionPosition_NullShipCase() throws Exception {
+		myFacade.getCollisionPosition(ship_Left, null);
+	}
+	
+	
+	@Test
+	public void getCollisionPositionOut_LegalCase() throws Exception {
+		double[] out = new double[2];
+		assertSame(myFacade.getCollisionPosition(ship_Left, ship_Right, out), out);
+		assertEquals(out[0], 0, EPSILON);
+		assertEquals(out[1], 0, EPSILON);
+		out[0] = 7;
+		assertNull(myFacade.getCollisionPosition(ship_Left, new Ship(0, 1000, 0, 10, 10, 0), out));
+		assertEquals(out[0], 7, 0);
+	}
+	
+	@Test
+	public void getCollisionPositionOut_OverlapCase() {
+		try {
+			myFacade.getCollisionPosition(ship_Left, ship_Overlapping, new double[2]);
+			fail();
+		}
+		catch (ModelException exc) {
+			assertEquals(exc.getMessage(), "The ships overlap!");
+			assertNull(exc.getCause());
+		}
+	}
+	
+}
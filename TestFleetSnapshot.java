@@ -0,0 +1,102 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.FleetSnapshot;
+import asteroids.model.Ship;
+import asteroids.model.ShipStore;
+
+public class TestFleetSnapshot {
+	
+	private Path myPath;
+	private List<Ship> myFleet;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myPath = Files.createTempFile("fleet", ".snapshot");
+		myFleet = new ArrayList<Ship>();
+		myFleet.add(new Ship(1, 2, 3, 4, 10, 0.5));
+		myFleet.add(new Ship(-100, 200, 0, -300, 25, Math.PI));
+	}
+	
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(myPath);
+	}
+	
+	@Test
+	public void open_WrittenShipsCase() throws IOException {
+		FleetSnapshot.write(myPath, myFleet);
+		FleetSnapshot snapshot = FleetSnapshot.open(myPath);
+		assertEquals(snapshot.getNbShips(), 2);
+		assertEquals(snapshot.getMinimalRadius(), Ship.getMinimalRadius(), EPSILON);
+		assertEquals(Files.size(myPath), FleetSnapshot.HEADER_SIZE + 2 * FleetSnapshot.RECORD_SIZE);
+		assertEquals(snapshot.getyCoordinate(1), 200, EPSILON);
+		assertEquals(snapshot.getyVelocity(1), -300, EPSILON);
+		assertEquals(snapshot.getRadius(1), 25, EPSILON);
+		Ship ship = snapshot.getShip(0);
+		assertEquals(ship.getxCoordinate(), 1, EPSILON);
+		assertEquals(ship.getxVelocity(), 3, EPSILON);
+		assertEquals(ship.getOrientation(), 0.5, EPSILON);
+	}
+	
+	@Test
+	public void toShipStore_RoundTripCase() throws IOException {
+		ShipStore store = new ShipStore();
+		for (Ship ship : myFleet)
+			store.addShip(ship);
+		FleetSnapshot.write(myPath, store);
+		ShipStore loaded = FleetSnapshot.open(myPath).toShipStore();
+		assertEquals(loaded.getNbShips(), 2);
+		for (int handle = 0; handle < 2; handle++) {
+			assertEquals(loaded.getxCoordinate(handle), store.getxCoordinate(handle), 0);
+			assertEquals(loaded.getyVelocity(handle), store.getyVelocity(handle), 0);
+			assertEquals(loaded.getOrientation(handle), store.getOrientation(handle), 0);
+		}
+	}
+	
+	@Test
+	public void open_EmptyFleetCase() throws IOException {
+		FleetSnapshot.write(myPath, new ArrayList<Ship>());
+		assertEquals(FleetSnapshot.open(myPath).getNbShips(), 0);
+	}
+	
+	@Test(expected=IOException.class)
+	public void open_CorruptFileCase() throws IOException {
+		Files.write(myPath, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24});
+		FleetSnapshot.open(myPath);
+	}
+	
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void getxCoordinate_IllegalIndexCase() throws IOException {
+		FleetSnapshot.write(myPath, myFleet);
+		FleetSnapshot.open(myPath).getxCoordinate(2);
+	}
+	@Test
+	public void write_NullShipCase() throws IOException {
+		FleetSnapshot.write(myPath, myFleet);
+		List<Ship> fleet = new ArrayList<Ship>(myFleet);
+		fleet.add(null);
+		try {
+			FleetSnapshot.write(myPath, fleet);
+			fail();
+		}
+		catch (IllegalArgumentException exc) {
+			FleetSnapshot snapshot = FleetSnapshot.open(myPath);
+			assertEquals(snapshot.getNbShips(), myFleet.size());
+			assertEquals(snapshot.getxCoordinate(0), myFleet.get(0).getxCoordinate(), 0);
+		}
+	}
+	
+}
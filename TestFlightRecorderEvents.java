@@ -0,0 +1,112 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Ship;
+import asteroids.model.World;
+
+public class TestFlightRecorderEvents {
+	
+	private Recording recording;
+	
+	private Path file;
+	
+	@Before
+	public void setUp() throws Exception {
+		recording = new Recording();
+		recording.enable("asteroids.CollisionPrediction").withThreshold(Duration.ZERO);
+		recording.enable("asteroids.TickPhase");
+		file = Files.createTempFile("asteroids", ".jfr");
+	}
+	
+	@After
+	public void tearDown() throws Exception {
+		recording.close();
+		Files.deleteIfExists(file);
+	}
+	
+	private List<RecordedEvent> stopAndRead(String name) throws Exception {
+		recording.stop();
+		recording.dump(file);
+		List<RecordedEvent> result = new ArrayList<RecordedEvent>();
+		for (RecordedEvent event : RecordingFile.readAllEvents(file))
+			if (event.getEventType().getName().equals(name))
+				result.add(event);
+		return result;
+	}
+	
+	@Test
+	public void getTimeToCollision_EventRecorded() throws Exception {
+		Ship ship1 = new Ship(0, 0, 10, 0, 10, 0);
+		Ship ship2 = new Ship(100, 0, 0, 0, 10, 0);
+		recording.start();
+		Ship.getTimeToCollision(ship1, ship2);
+		List<RecordedEvent> events = stopAndRead("asteroids.CollisionPrediction");
+		assertEquals(1, events.size());
+		RecordedEvent event = events.get(0);
+		assertEquals(System.identityHashCode(ship1), event.getInt("ship1"));
+		assertEquals(System.identityHashCode(ship2), event.getInt("ship2"));
+		assertEquals(8, event.getDouble("time"), 1E-9);
+		assertFalse(event.getBoolean("overlapping"));
+		assertFalse(event.getBoolean("noCollision"));
+		assertFalse(event.getBoolean("positionRequested"));
+	}
+	
+	@Test
+	public void getCollisionPosition_OverlapAndNoCollisionRecorded() throws Exception {
+		Ship ship1 = new Ship(0, 0, 0, 0, 10, 0);
+		Ship ship2 = new Ship(5, 0, 0, 0, 10, 0);
+		Ship ship3 = new Ship(100, 0, 0, 0, 10, 0);
+		recording.start();
+		Ship.getCollisionPositionOrNull(ship1, ship2);
+		Ship.getCollisionPositionOrNull(ship1, ship3);
+		List<RecordedEvent> events = stopAndRead("asteroids.CollisionPrediction");
+		assertEquals(2, events.size());
+		for (RecordedEvent event : events) {
+			assertTrue(event.getBoolean("positionRequested"));
+			if (event.getInt("ship2") == System.identityHashCode(ship2)) {
+				assertTrue(event.getBoolean("overlapping"));
+				assertFalse(event.getBoolean("noCollision"));
+			}
+			else {
+				assertFalse(event.getBoolean("overlapping"));
+				assertTrue(event.getBoolean("noCollision"));
+			}
+		}
+	}
+	
+	@Test
+	public void moveAndDetect_PhasesRecorded() throws Exception {
+		World world = new World();
+		world.addShip(new Ship(0, 0, 10, 0, 10, 0));
+		world.addShip(new Ship(100, 0, 0, 0, 10, 0));
+		recording.start();
+		world.moveAndDetect(10);
+		List<RecordedEvent> events = stopAndRead("asteroids.TickPhase");
+		assertEquals(3, events.size());
+		List<String> phases = new ArrayList<String>();
+		for (RecordedEvent event : events) {
+			phases.add(event.getString("phase"));
+			assertEquals(2, event.getInt("nbShips"));
+			if (event.getString("phase").equals("narrow-phase"))
+				assertEquals(1, event.getInt("nbPairs"));
+		}
+		assertTrue(phases.contains("integrate"));
+		assertTrue(phases.contains("broad-phase"));
+		assertTrue(phases.contains("narrow-phase"));
+	}
+}
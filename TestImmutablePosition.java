@@ -0,0 +1,71 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.IllegalCoordinateException;
+import asteroids.model.ImmutablePosition;
+import asteroids.model.ImmutableVelocity;
+
+public class TestImmutablePosition {
+	
+	private static ImmutablePosition position_00, position_34;
+	
+	@Before
+	public void setUp() throws Exception {
+		position_00 = new ImmutablePosition(0,0);
+		position_34 = new ImmutablePosition(3,4);
+	}
+	
+	@Test
+	public void constructor_LegalCase() {
+		ImmutablePosition myPosition = new ImmutablePosition(1,2);
+		assertEquals(myPosition.getxCoordinate(), 1, 0.01);
+		assertEquals(myPosition.getyCoordinate(), 2, 0.01);
+	}
+	
+	@Test(expected=IllegalCoordinateException.class)
+	public void constructor_IllegalCase() {
+		new ImmutablePosition(1, Double.NaN);
+	}
+	
+	@Test
+	public void plus_RegularCase() {
+		ImmutablePosition myPosition = position_34.plus(1, -1);
+		assertEquals(myPosition.getxCoordinate(), 4, 0.01);
+		assertEquals(myPosition.getyCoordinate(), 3, 0.01);
+		assertEquals(position_34.getxCoordinate(), 3, 0.01);
+	}
+	
+	@Test
+	public void plusVelocity_RegularCase() {
+		ImmutablePosition myPosition = position_00.plus(new ImmutableVelocity(1, 2), 3);
+		assertEquals(myPosition.getxCoordinate(), 3, 0.01);
+		assertEquals(myPosition.getyCoordinate(), 6, 0.01);
+	}
+	
+	@Test
+	public void distanceTo_RegularCase() {
+		assertEquals(position_00.distanceTo(position_34), 5, 0.01);
+	}
+	
+	@Test
+	public void equals_EqualCase() {
+		assertEquals(position_34, new ImmutablePosition(3, 4));
+		assertEquals(position_34.hashCode(), new ImmutablePosition(3, 4).hashCode());
+	}
+	
+	@Test
+	public void equals_DifferentCase() {
+		assertNotEquals(position_34, position_00);
+		assertNotEquals(position_34, new ImmutablePosition(4, 3));
+	}
+	
+	@Test
+	public void toPosition_RegularCase() {
+		assertEquals(position_34.toPosition().getxCoordinate(), 3, 0.01);
+		assertEquals(position_34.toPosition().getyCoordinate(), 4, 0.01);
+	}
+}
@@ -0,0 +1,56 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.ImmutableVelocity;
+
+public class TestImmutableVelocity {
+	ImmutableVelocity myVelocity;
+	
+	@Before
+	public void setUp() throws Exception {
+		myVelocity = new ImmutableVelocity(3, 4);
+	}
+	
+	@Test
+	public void constructor_RegularCase() {
+		assertEquals(myVelocity.getxComponent(), 3, 0.01);
+		assertEquals(myVelocity.getyComponent(), 4, 0.01);
+	}
+	
+	@Test
+	public void constructor_NonRegularCase() {
+		myVelocity = new ImmutableVelocity(Double.NaN, 10);
+		assertEquals(myVelocity.getxComponent(), 0, 0.01);
+		assertEquals(myVelocity.getyComponent(), 10, 0.01);
+	}
+	
+	@Test
+	public void getSpeed_RegularCase() {
+		assertEquals(myVelocity.getSpeed(), 5, 0.01);
+	}
+	
+	@Test
+	public void plus_RegularCase() {
+		ImmutableVelocity yourVelocity = myVelocity.plus(new ImmutableVelocity(1, 1));
+		assertEquals(yourVelocity.getxComponent(), 4, 0.01);
+		assertEquals(yourVelocity.getyComponent(), 5, 0.01);
+	}
+	
+	@Test
+	public void scaledBy_RegularCase() {
+		ImmutableVelocity yourVelocity = myVelocity.scaledBy(2);
+		assertEquals(yourVelocity.getxComponent(), 6, 0.01);
+		assertEquals(yourVelocity.getyComponent(), 8, 0.01);
+	}
+	
+	@Test
+	public void equals_RegularCase() {
+		assertEquals(myVelocity, new ImmutableVelocity(3, 4));
+		assertEquals(myVelocity.hashCode(), new ImmutableVelocity(3, 4).hashCode());
+		assertNotEquals(myVelocity, new ImmutableVelocity(4, 3));
+	}
+}
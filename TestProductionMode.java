@@ -0,0 +1,74 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+
+import asteroids.model.IllegalCoordinateException;
+import asteroids.model.IllegalRadiusException;
+import asteroids.model.OverlapException;
+import asteroids.model.ProductionMode;
+import asteroids.model.Ship;
+
+public class TestProductionMode {
+	
+	@After
+	public void tearDown() throws Exception {
+		ProductionMode.setEnabled(false);
+	}
+	
+	@Test
+	public void getInstance_ProductionCase() {
+		ProductionMode.setEnabled(true);
+		assertSame(IllegalCoordinateException.getInstance(), IllegalCoordinateException.getInstance());
+		assertSame(IllegalRadiusException.getInstance(), IllegalRadiusException.getInstance());
+		assertSame(OverlapException.getInstance(), OverlapException.getInstance());
+		assertEquals(OverlapException.getInstance().getStackTrace().length, 0);
+	}
+	
+	@Test
+	public void getInstance_DevelopmentCase() {
+		ProductionMode.setEnabled(false);
+		assertNotSame(OverlapException.getInstance(), OverlapException.getInstance());
+		assertTrue(OverlapException.getInstance().getStackTrace().length > 0);
+	}
+	
+	@Test
+	public void constructor_ProductionCase() {
+		ProductionMode.setEnabled(true);
+		assertEquals(new IllegalRadiusException().getStackTrace().length, 0);
+	}
+	
+	@Test
+	public void ship_ProductionCase() {
+		ProductionMode.setEnabled(true);
+		try {
+			new Ship(Double.NaN, 0, 10);
+			fail();
+		}
+		catch (IllegalCoordinateException exc) {
+			assertSame(exc, IllegalCoordinateException.getInstance());
+		}
+	}
+	@Test
+	public void constructor_SuppressionEnabled() {
+		ProductionMode.setEnabled(false);
+		OverlapException exc = new OverlapException();
+		exc.addSuppressed(new IllegalArgumentException());
+		assertEquals(exc.getSuppressed().length, 1);
+		ProductionMode.setEnabled(true);
+		IllegalRadiusException stackless = new IllegalRadiusException();
+		stackless.addSuppressed(new IllegalArgumentException());
+		assertEquals(stackless.getSuppressed().length, 1);
+	}
+	
+	@Test
+	public void getInstance_SharedSuppressionDisabled() {
+		ProductionMode.setEnabled(true);
+		IllegalCoordinateException shared = IllegalCoordinateException.getInstance();
+		shared.addSuppressed(new IllegalArgumentException());
+		assertEquals(shared.getSuppressed().length, 0);
+	}
+	
+}
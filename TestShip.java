@@ -6,8 +6,10 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import asteroids.model.Collision;
 import asteroids.model.IllegalCoordinateException;
 import asteroids.model.IllegalRadiusException;
+import asteroids.model.ImmutableVelocity;
 import asteroids.model.OverlapException;
 import asteroids.model.Position;
 import asteroids.model.Ship;
@@ -288,4 +290,160 @@ public class TestShip {
 	}
 	
 	
+	@Test
+	public void primitiveAccessors_LegalCase() {
+		myShip = new Ship(1, 2, 3, 4, 15, 0);
+		assertEquals(myShip.getxCoordinate(), 1, EPSILON);
+		assertEquals(myShip.getyCoordinate(), 2, EPSILON);
+		assertEquals(myShip.getxVelocity(), 3, EPSILON);
+		assertEquals(myShip.getyVelocity(), 4, EPSILON);
+	}
+	
+	@Test
+	public void getPosition_ReturnsCopy() {
+		myShip.getPosition().setPosition(100, 100);
+		assertEquals(myShip.getxCoordinate(), 0, EPSILON);
+		assertEquals(myShip.getyCoordinate(), 0, EPSILON);
+	}
+	
+	@Test
+	public void getImmutablePosition_SharedCase() {
+		assertTrue(myShip.getImmutablePosition() == myShip.getImmutablePosition());
+		myShip.move(1);
+		assertEquals(myShip.getImmutablePosition().getxCoordinate(), 10, EPSILON);
+		assertEquals(myShip.getImmutablePosition().getyCoordinate(), 10, EPSILON);
+	}
+	
+	@Test
+	public void getImmutableVelocity_LegalCase() {
+		assertEquals(myShip.getImmutableVelocity(), new ImmutableVelocity(10, 10));
+	}
+	
+	@Test
+	public void getNbModifications_IncrementedByChanges() {
+		long nbModifications = myShip.getNbModifications();
+		myShip.move(1);
+		myShip.thrust(1);
+		myShip.turn(1);
+		assertEquals(myShip.getNbModifications(), nbModifications + 3);
+	}
+	
+	@Test
+	public void getTimeToCollisionOrNaN_OverlapCase() {
+		assertTrue(Double.isNaN(Ship.getTimeToCollisionOrNaN(ship_Collision1, ship_Collision1)));
+	}
+	
+	@Test
+	public void getTimeToCollisionOrNaN_CollisionCase() {
+		assertEquals(Ship.getTimeToCollisionOrNaN(ship_Collision1, ship_Collision2),
+				Ship.getTimeToCollision(ship_Collision1, ship_Collision2), EPSILON);
+	}
+	
+	@Test
+	public void getCollisionPositionOrNull_OverlapCase() {
+		assertNull(Ship.getCollisionPositionOrNull(ship_Collision1, ship_Collision1));
+	}
+	
+	@Test
+	public void getCollisionPositionOrNull_CollisionCase() {
+		Position collisionPosition = Ship.getCollisionPosition(ship_Collision1, ship_Collision2);
+		assertEquals(Ship.getCollisionPositionOrNull(ship_Collision1, ship_Collision2).getxCoordinate(),
+				collisionPosition.getxCoordinate(), EPSILON);
+		assertEquals(Ship.getCollisionPositionOrNull(ship_Collision1, ship_Collision2).getyCoordinate(),
+				collisionPosition.getyCoordinate(), EPSILON);
+	}
+	
+	@Test
+	public void canHaveAsVelocity_Components() {
+		Ship ship = new Ship(0, 0, 0, 0, 10, 0);
+		assertTrue(ship.canHaveAsVelocity(Ship.SPEED_OF_LIGHT, 0));
+		assertFalse(ship.canHaveAsVelocity(Ship.SPEED_OF_LIGHT, 1));
+		assertFalse(ship.canHaveAsVelocity(Double.NaN, 0));
+	}
+	
+	@Test
+	public void getCollisionPositionOut_CollisionCase() {
+		Position out = new Position(0, 0);
+		assertTrue(Ship.getCollisionPosition(ship_Collision1, ship_Collision2, out));
+		Position collisionPosition = Ship.getCollisionPosition(ship_Collision1, ship_Collision2);
+		assertEquals(collisionPosition.getxCoordinate(), out.getxCoordinate(), EPSILON);
+		assertEquals(collisionPosition.getyCoordinate(), out.getyCoordinate(), EPSILON);
+	}
+	
+	@Test
+	public void getCollisionPositionOut_NoCollisionCase() {
+		Position out = new Position(1, 2);
+		assertFalse(Ship.getCollisionPosition(new Ship(0, 0, -10, 0, 10, 0), new Ship(100, 0, 10, 0, 10, 0), out));
+		assertEquals(1, out.getxCoordinate(), EPSILON);
+		assertEquals(2, out.getyCoordinate(), EPSILON);
+	}
+	
+	@Test(expected = OverlapException.class)
+	public void getCollisionPositionOut_OverlapCase() {
+		Ship.getCollisionPosition(ship_Collision1, ship_Collision1, new Position(0, 0));
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void getCollisionPositionOut_NullCase() {
+		Ship.getCollisionPosition(ship_Collision1, ship_Collision2, null);
+	}
+	
+	@Test
+	public void predictCollision_CollisionCase() {
+		Collision collision = Ship.predictCollision(ship_Collision1, ship_Collision2);
+		assertSame(ship_Collision1, collision.getShip1());
+		assertSame(ship_Collision2, collision.getShip2());
+		assertEquals(Ship.getTimeToCollision(ship_Collision1, ship_Collision2), collision.getTime(), EPSILON);
+		Position collisionPosition = Ship.getCollisionPosition(ship_Collision1, ship_Collision2);
+		assertEquals(collisionPosition.getxCoordinate(), collision.getPosition().getxCoordinate(), EPSILON);
+		assertEquals(collisionPosition.getyCoordinate(), collision.getPosition().getyCoordinate(), EPSILON);
+	}
+	
+	@Test
+	public void predictCollision_NoCollisionCase() {
+		assertNull(Ship.predictCollision(new Ship(0, 0, -10, 0, 10, 0), new Ship(100, 0, 10, 0, 10, 0)));
+	}
+	
+	@Test(expected = OverlapException.class)
+	public void predictCollision_OverlapCase() {
+		Ship.predictCollision(ship_Collision1, ship_Collision1);
+	}
+	
+	@Test
+	public void predictCollisionOrNull_OverlapCase() {
+		assertNull(Ship.predictCollisionOrNull(ship_Collision1, new Ship(-15, -20, 0, 0, 10, 0)));
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void predictCollision_NullCase() {
+		Ship.predictCollision(ship_Collision1, null);
+	}
+	
+	
+	@Test
+	public void constructor_InvalidVelocityComponentCase() {
+		Ship ship = new Ship(0, 0, Double.NaN, 4, 10, 0);
+		assertEquals(ship.getxVelocity(), 0, EPSILON);
+		assertEquals(ship.getyVelocity(), 4, EPSILON);
+	}
+	
+	
+	@Test
+	public void predictCollisionOrNaN_CollisionCase() {
+		double[] out = new double[2];
+		assertEquals(Ship.predictCollisionOrNaN(ship_Collision1, ship_Collision2, out),
+				Ship.getTimeToCollision(ship_Collision1, ship_Collision2), 0);
+		Position collisionPosition = Ship.getCollisionPosition(ship_Collision1, ship_Collision2);
+		assertEquals(collisionPosition.getxCoordinate(), out[0], EPSILON);
+		assertEquals(collisionPosition.getyCoordinate(), out[1], EPSILON);
+	}
+	
+	@Test
+	public void predictCollisionOrNaN_OverlapCase() {
+		double[] out = new double[] {1, 2};
+		assertTrue(Double.isNaN(Ship.predictCollisionOrNaN(ship_Collision1, ship_Collision1, out)));
+		assertEquals(1, out[0], 0);
+		assertEquals(2, out[1], 0);
+	}
+	
 }
\ No newline at end of file
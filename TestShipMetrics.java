@@ -0,0 +1,179 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.LatencyHistogram;
+import asteroids.model.OverlapException;
+import asteroids.model.Ship;
+import asteroids.model.ShipMetrics;
+import asteroids.model.ShipMetrics.Operation;
+
+public class TestShipMetrics {
+	
+	private ShipMetrics metrics;
+	
+	@Before
+	public void setUp() throws Exception {
+		metrics = ShipMetrics.getInstance();
+		metrics.reset();
+	}
+	
+	@After
+	public void tearDown() throws Exception {
+		metrics.setEnabled(false);
+		metrics.reset();
+	}
+	
+	@Test
+	public void disabled_NothingRecorded() {
+		metrics.setEnabled(false);
+		Ship ship = new Ship(0, 0, 100, 0, 10, 0);
+		ship.move(1);
+		ship.thrust(1000000);
+		ship.turn(1);
+		assertEquals(0, metrics.getMetrics(Operation.MOVE).getCount());
+		assertEquals(0, metrics.getMetrics(Operation.THRUST).getCount());
+		assertEquals(0, metrics.getMetrics(Operation.TURN).getCount());
+		assertEquals(0, metrics.getSpeedLimitClamps());
+	}
+	
+	@Test
+	public void enabled_OperationsCounted() {
+		metrics.setEnabled(true);
+		Ship ship1 = new Ship(0, 0, 100, 0, 10, 0);
+		Ship ship2 = new Ship(100, 0, 0, 0, 10, 0);
+		ship1.move(0.1);
+		ship1.move(0.1);
+		ship1.turn(1);
+		ship1.thrust(1);
+		Ship.getTimeToCollision(ship1, ship2);
+		Ship.getCollisionPosition(ship1, ship2);
+		assertEquals(2, metrics.getMetrics(Operation.MOVE).getCount());
+		assertEquals(1, metrics.getMetrics(Operation.TURN).getCount());
+		assertEquals(1, metrics.getMetrics(Operation.THRUST).getCount());
+		assertEquals(1, metrics.getMetrics(Operation.TIME_TO_COLLISION).getCount());
+		assertEquals(1, metrics.getMetrics(Operation.COLLISION_POSITION).getCount());
+	}
+	
+	@Test
+	public void enabled_FailingOperationCounted() {
+		metrics.setEnabled(true);
+		try {
+			new Ship(0, 0, 0, 0, 10, 0).move(-1);
+			fail();
+		}
+		catch (IllegalArgumentException exc) {
+		}
+		assertEquals(1, metrics.getMetrics(Operation.MOVE).getCount());
+	}
+	
+	@Test
+	public void enabled_SpeedLimitClampCounted() {
+		metrics.setEnabled(true);
+		Ship ship = new Ship(0, 0, 0, 0, 10, 0);
+		ship.thrust(1);
+		assertEquals(0, metrics.getSpeedLimitClamps());
+		ship.thrust(Ship.SPEED_OF_LIGHT);
+		assertEquals(1, metrics.getSpeedLimitClamps());
+	}
+	
+	@Test
+	public void enabled_OverlapCounted() {
+		metrics.setEnabled(true);
+		Ship ship1 = new Ship(0, 0, 0, 0, 10, 0);
+		Ship ship2 = new Ship(5, 0, 0, 0, 10, 0);
+		try {
+			Ship.getTimeToCollision(ship1, ship2);
+			fail();
+		}
+		catch (OverlapException exc) {
+		}
+		assertEquals(1, metrics.getOverlaps());
+	}
+	
+	@Test
+	public void reset_AllZero() {
+		metrics.setEnabled(true);
+		new Ship(0, 0, 0, 0, 10, 0).move(1);
+		metrics.reset();
+		assertEquals(0, metrics.getMetrics(Operation.MOVE).getCount());
+		assertEquals(0, metrics.getMetrics(Operation.MOVE).getMaxNanos());
+	}
+	
+	@Test
+	public void registerMBeans_Idempotent() throws Exception {
+		ShipMetrics.registerMBeans();
+		ShipMetrics.registerMBeans();
+		assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName("asteroids:type=ShipMetrics")));
+		assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(
+				new ObjectName("asteroids:type=ShipMetrics,operation=MOVE")));
+		assertEquals(Boolean.FALSE, ManagementFactory.getPlatformMBeanServer().getAttribute(
+				new ObjectName("asteroids:type=ShipMetrics"), "Enabled"));
+	}
+	
+	@Test
+	public void histogram_Percentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long value = 1; value <= 1000; value++)
+			histogram.record(value);
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000, histogram.getMax());
+		assertEquals(500.5, histogram.getMean(), 1E-9);
+		assertEquals(1, histogram.getPercentile(0));
+		assertEquals(500, histogram.getPercentile(50), 500.0 / LatencyHistogram.SUB_BUCKETS);
+		assertEquals(990, histogram.getPercentile(99), 990.0 / LatencyHistogram.SUB_BUCKETS);
+		assertTrue(histogram.getPercentile(100) <= 1000);
+	}
+	
+	@Test
+	public void histogram_LargeValue() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, histogram.getMax());
+		assertTrue(histogram.getPercentile(50) > Long.MAX_VALUE / 2);
+	}
+	
+	@Test
+	public void histogram_Empty() {
+		assertEquals(0, new LatencyHistogram().getPercentile(99));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void histogram_IllegalPercentile() {
+		new LatencyHistogram().getPercentile(101);
+	}
+	
+	@Test
+	public void histogram_ConcurrentRecords() throws Exception {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[8];
+		for (int i = 0; i < threads.length; i++) {
+			final long value = 100 * (i + 1);
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++)
+						histogram.record(value);
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads)
+			thread.join();
+		assertEquals(80000, histogram.getCount());
+		assertEquals(100, histogram.getPercentile(10), 100.0 / LatencyHistogram.SUB_BUCKETS);
+		assertEquals(400, histogram.getPercentile(50), 400.0 / LatencyHistogram.SUB_BUCKETS);
+		assertEquals(800, histogram.getPercentile(100), 800.0 / LatencyHistogram.SUB_BUCKETS);
+		histogram.reset();
+		assertEquals(0, histogram.getPercentile(50));
+	}
+	
+}
@@ -0,0 +1,259 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.IllegalCoordinateException;
+import asteroids.model.IllegalRadiusException;
+import asteroids.model.Ship;
+import asteroids.model.ShipStore;
+
+public class TestShipStore {
+	
+	private ShipStore myStore;
+	private Ship myShip, fastShip;
+	private int myHandle, fastHandle;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myStore = new ShipStore(1);
+		myShip = new Ship(0, 0, 10, 10, 10, Math.PI / 4);
+		fastShip = new Ship(5, 5, 290000, 0, 20, 0);
+		myHandle = myStore.addShip(myShip);
+		fastHandle = myStore.addShip(fastShip);
+	}
+	
+	private void assertSameState(Ship ship, int handle) {
+		assertEquals(ship.getxCoordinate(), myStore.getxCoordinate(handle), EPSILON);
+		assertEquals(ship.getyCoordinate(), myStore.getyCoordinate(handle), EPSILON);
+		assertEquals(ship.getxVelocity(), myStore.getxVelocity(handle), EPSILON);
+		assertEquals(ship.getyVelocity(), myStore.getyVelocity(handle), EPSILON);
+		assertEquals(ship.getRadius(), myStore.getRadius(handle), EPSILON);
+		assertEquals(ship.getOrientation(), myStore.getOrientation(handle), EPSILON);
+	}
+	
+	@Test
+	public void addShip_LegalCase() {
+		assertEquals(myStore.getNbShips(), 2);
+		assertEquals(myHandle, 0);
+		assertEquals(fastHandle, 1);
+		assertSameState(myShip, myHandle);
+		assertSameState(fastShip, fastHandle);
+	}
+	
+	@Test
+	public void addShip_TooFastCase() {
+		int handle = myStore.addShip(0, 0, 300000, 300000, 10, 0);
+		assertSameState(new Ship(0, 0, 300000, 300000, 10, 0), handle);
+	}
+	
+	@Test(expected=IllegalRadiusException.class)
+	public void addShip_IllegalRadius() {
+		myStore.addShip(0, 0, 0, 0, 1, 0);
+	}
+	
+	@Test(expected=IllegalCoordinateException.class)
+	public void addShip_IllegalCoordinate() {
+		myStore.addShip(Double.NaN, 0, 0, 0, 10, 0);
+	}
+	
+	@Test(expected=IndexOutOfBoundsException.class)
+	public void getxCoordinate_IllegalHandle() {
+		myStore.getxCoordinate(2);
+	}
+	
+	@Test
+	public void moveAll_LegalCase() {
+		myStore.moveAll(2);
+		myShip.move(2);
+		fastShip.move(2);
+		assertSameState(myShip, myHandle);
+		assertSameState(fastShip, fastHandle);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void moveAll_NegativeDuration() {
+		myStore.moveAll(-1);
+	}
+	
+	@Test
+	public void thrust_LegalCase() {
+		myStore.thrust(new int[] {myHandle, fastHandle, myHandle}, new double[] {5, 50000, -1});
+		myShip.thrust(5);
+		fastShip.thrust(50000);
+		assertSameState(myShip, myHandle);
+		assertSameState(fastShip, fastHandle);
+		assertEquals(Math.hypot(myStore.getxVelocity(fastHandle), myStore.getyVelocity(fastHandle)), Ship.SPEED_OF_LIGHT, EPSILON);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void thrust_DifferentLengths() {
+		myStore.thrust(new int[] {myHandle}, new double[] {1, 2});
+	}
+	
+	@Test
+	public void turn_LegalCase() {
+		myStore.turn(new int[] {myHandle}, new double[] {Math.PI / 4});
+		myShip.turn(Math.PI / 4);
+		assertSameState(myShip, myHandle);
+	}
+	
+	@Test
+	public void toShip_LegalCase() {
+		assertSameState(myStore.toShip(fastHandle), fastHandle);
+	}
+	@Test
+	public void thrustAll_LegalCase() {
+		myStore.thrustAll(new double[] {5, 50000});
+		myShip.thrust(5);
+		fastShip.thrust(50000);
+		assertSameState(myShip, myHandle);
+		assertSameState(fastShip, fastHandle);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void thrustAll_WrongLength() {
+		myStore.thrustAll(new double[] {5});
+	}
+	
+	@Test
+	public void kernels_SameResults() {
+		Random random = new Random(3);
+		ShipStore scalarStore = new ShipStore(0, ShipStore.Kernel.SCALAR);
+		ShipStore vectorizedStore = new ShipStore(0, ShipStore.Kernel.VECTORIZED);
+		int nbShips = 1000;
+		double[] amounts = new double[nbShips];
+		for (int i = 0; i < nbShips; i++) {
+			double x = random.nextDouble() * 1e6, y = random.nextDouble() * 1e6;
+			double vx = random.nextDouble() * 2e5 - 1e5, vy = random.nextDouble() * 2e5 - 1e5;
+			double orientation = random.nextDouble() * 2 * Math.PI;
+			scalarStore.addShip(x, y, vx, vy, 10, orientation);
+			vectorizedStore.addShip(x, y, vx, vy, 10, orientation);
+			amounts[i] = random.nextDouble() * 4e5 - 1e5;
+		}
+		scalarStore.thrustAll(amounts);
+		vectorizedStore.thrustAll(amounts);
+		scalarStore.moveAll(0.5);
+		vectorizedStore.moveAll(0.5);
+		for (int i = 0; i < nbShips; i++) {
+			double vx = scalarStore.getxVelocity(i), vy = scalarStore.getyVelocity(i);
+			assertEquals(vx, vectorizedStore.getxVelocity(i), ShipStore.MAX_VECTORIZED_ULP_ERROR * Math.ulp(vx));
+			assertEquals(vy, vectorizedStore.getyVelocity(i), ShipStore.MAX_VECTORIZED_ULP_ERROR * Math.ulp(vy));
+			assertEquals(scalarStore.getxCoordinate(i), vectorizedStore.getxCoordinate(i), 1e-6);
+			assertEquals(scalarStore.getyCoordinate(i), vectorizedStore.getyCoordinate(i), 1e-6);
+		}
+	}
+	
+	@Test
+	public void moveAll_VectorizedOverflowCase() {
+		ShipStore store = new ShipStore(0, ShipStore.Kernel.VECTORIZED);
+		store.addShip(0, 0, 1, 0, 10, 0);
+		store.addShip(Double.MAX_VALUE, 0, 1000, 0, 10, 0);
+		try {
+			store.moveAll(Double.MAX_VALUE);
+			fail();
+		}
+		catch (IllegalCoordinateException exc) {
+			assertEquals(store.getxCoordinate(0), Double.MAX_VALUE, 0);
+			assertEquals(store.getxCoordinate(1), Double.MAX_VALUE, 0);
+		}
+	}
+	
+	
+	@Test
+	public void moveAll_TrajectoryModeCase() {
+		myStore.setTrajectoryMode(true);
+		myStore.moveAll(2);
+		myStore.moveAll(3);
+		assertEquals(myStore.getClock(), 5, EPSILON);
+		myShip.move(5);
+		fastShip.move(5);
+		assertSameState(myShip, myHandle);
+		assertSameState(fastShip, fastHandle);
+	}
+	
+	@Test
+	public void thrust_TrajectoryModeCase() {
+		myStore.setTrajectoryMode(true);
+		myStore.moveAll(2);
+		myStore.thrust(new int[] {myHandle}, new double[] {5});
+		myStore.moveAll(3);
+		myShip.move(2);
+		myShip.thrust(5);
+		myShip.move(3);
+		assertSameState(myShip, myHandle);
+	}
+	
+	@Test
+	public void setTrajectoryMode_RandomCase() {
+		Random random = new Random(3);
+		myStore.setTrajectoryMode(true);
+		for (int step = 0; step < 50; step++) {
+			double duration = random.nextDouble();
+			myStore.moveAll(duration);
+			myShip.move(duration);
+			fastShip.move(duration);
+			double[] amounts = new double[] {random.nextDouble() * 100, random.nextDouble() * 100};
+			myStore.thrustAll(amounts);
+			myShip.thrust(amounts[0]);
+			fastShip.thrust(amounts[1]);
+		}
+		myStore.setTrajectoryMode(false);
+		assertFalse(myStore.isInTrajectoryMode());
+		assertEquals(myShip.getxCoordinate(), myStore.getxCoordinate(myHandle), 1e-3);
+		assertEquals(fastShip.getxCoordinate(), myStore.getxCoordinate(fastHandle), 1e-3);
+		assertEquals(myShip.getxVelocity(), myStore.getxVelocity(myHandle), 1e-3);
+	}
+	
+	@Test
+	public void moveAll_TrajectoryModeOverflowCase() {
+		myStore.setTrajectoryMode(true);
+		try {
+			myStore.moveAll(Double.MAX_VALUE / 1000);
+			fail();
+		}
+		catch (IllegalCoordinateException exc) {
+			assertEquals(myStore.getClock(), 0, EPSILON);
+			assertSameState(myShip, myHandle);
+		}
+	}
+	
+	@Test
+	public void thrustAll_AfterTurnCase() {
+		for (ShipStore.Kernel kernel : ShipStore.Kernel.values()) {
+			ShipStore store = new ShipStore(1, kernel);
+			Ship ship = new Ship(0, 0, 10, 10, 10, Math.PI / 4);
+			int handle = store.addShip(ship);
+			store.turn(new int[] {handle}, new double[] {Math.PI / 2});
+			store.thrustAll(new double[] {5});
+			ship.turn(Math.PI / 2);
+			ship.thrust(5);
+			assertEquals(ship.getxVelocity(), store.getxVelocity(handle), EPSILON);
+			assertEquals(ship.getyVelocity(), store.getyVelocity(handle), EPSILON);
+		}
+	}
+	
+	
+	@Test
+	public void moveAll_ScalarThenTrajectoryCase() {
+		ShipStore store = new ShipStore(0, ShipStore.Kernel.SCALAR);
+		store.addShip(0, 0, 300000, 0, 10, 0);
+		store.moveAll(5E302);
+		assertEquals(store.getxCoordinate(0), 1.5E308, 1E294);
+		store.setTrajectoryMode(true);
+		try {
+			store.moveAll(1E302);
+			fail();
+		}
+		catch (IllegalCoordinateException exc) {
+			store.setTrajectoryMode(false);
+			assertEquals(store.getxCoordinate(0), 1.5E308, 1E294);
+		}
+	}
+	
+}
@@ -0,0 +1,155 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Ship;
+import asteroids.model.ShipPair;
+import asteroids.model.SweepAndPrune;
+
+public class TestSweepAndPrune {
+	
+	private SweepAndPrune myIndex;
+	private Ship ship_00, ship_150, ship_0100, ship_1000;
+	
+	@Before
+	public void setUp() throws Exception {
+		myIndex = new SweepAndPrune();
+		ship_00 = new Ship(0, 0, 10);
+		ship_150 = new Ship(15, 0, 10);
+		ship_0100 = new Ship(0, 100, 10);
+		ship_1000 = new Ship(1000, 0, -100, 0, 10, 0);
+		myIndex.addShip(ship_00);
+		myIndex.addShip(ship_150);
+		myIndex.addShip(ship_0100);
+		myIndex.addShip(ship_1000);
+	}
+	
+	@Test
+	public void getCandidatePairs_RegularCase() {
+		Set<ShipPair> pairs = new HashSet<ShipPair>(myIndex.getCandidatePairs());
+		assertEquals(pairs.size(), 3);
+		assertTrue(pairs.contains(new ShipPair(ship_00, ship_150)));
+		assertTrue(pairs.contains(new ShipPair(ship_00, ship_0100)));
+		assertTrue(pairs.contains(new ShipPair(ship_150, ship_0100)));
+	}
+	
+	@Test
+	public void getOverlappingPairs_RegularCase() {
+		List<ShipPair> pairs = myIndex.getOverlappingPairs();
+		assertEquals(pairs.size(), 1);
+		assertEquals(pairs.get(0), new ShipPair(ship_00, ship_150));
+	}
+	
+	@Test
+	public void update_MovingShipCase() {
+		ship_1000.move(9.9);
+		myIndex.update();
+		assertEquals(myIndex.getCandidatePairs().size(), 6);
+		assertEquals(myIndex.getOverlappingPairs().size(), 3);
+		ship_1000.move(9.9);
+		myIndex.update();
+		assertEquals(myIndex.getCandidatePairs().size(), 3);
+	}
+	
+	@Test
+	public void removeShip_RegularCase() {
+		myIndex.removeShip(ship_00);
+		assertFalse(myIndex.hasAsShip(ship_00));
+		assertEquals(myIndex.getNbShips(), 3);
+		assertEquals(myIndex.getCandidatePairs().size(), 1);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void addShip_DuplicateCase() {
+		myIndex.addShip(ship_00);
+	}
+	
+	@Test
+	public void update_RandomCase() {
+		Random random = new Random(11);
+		SweepAndPrune index = new SweepAndPrune();
+		List<Ship> ships = new ArrayList<Ship>();
+		for (int i = 0; i < 300; i++) {
+			Ship ship = new Ship(random.nextDouble() * 3000, random.nextDouble() * 3000,
+					random.nextDouble() * 20 - 10, random.nextDouble() * 20 - 10, 10 + random.nextDouble() * 10, 0);
+			ships.add(ship);
+			index.addShip(ship);
+		}
+		for (int step = 0; step < 20; step++) {
+			for (Ship ship : ships)
+				ship.move(1);
+			index.update();
+			Set<ShipPair> expected = new HashSet<ShipPair>();
+			for (Ship ship1 : ships)
+				for (Ship ship2 : ships)
+					if ((ship1 != ship2) && Ship.overlap(ship1, ship2))
+						expected.add(new ShipPair(ship1, ship2));
+			assertEquals(new HashSet<ShipPair>(index.getOverlappingPairs()), expected);
+		}
+	}
+	
+	@Test
+	public void addShips_SameAsAddShipCase() {
+		Random random = new Random(5);
+		SweepAndPrune index = new SweepAndPrune();
+		List<Ship> ships = new ArrayList<Ship>();
+		for (int i = 0; i < 300; i++) {
+			Ship ship = new Ship(random.nextDouble() * 3000, random.nextDouble() * 3000, 10 + random.nextDouble() * 10);
+			ships.add(ship);
+			index.addShip(ship);
+		}
+		SweepAndPrune bulkIndex = new SweepAndPrune(ships);
+		assertEquals(bulkIndex.getNbShips(), 300);
+		assertEquals(new HashSet<ShipPair>(bulkIndex.getCandidatePairs()), new HashSet<ShipPair>(index.getCandidatePairs()));
+		for (Ship ship : ships)
+			ship.move(1);
+		index.update();
+		bulkIndex.update();
+		assertEquals(new HashSet<ShipPair>(bulkIndex.getCandidatePairs()), new HashSet<ShipPair>(index.getCandidatePairs()));
+	}
+	
+	@Test
+	public void addShips_NonEmptyIndexCase() {
+		Ship ship_200 = new Ship(20, 0, 10);
+		Ship ship_10000 = new Ship(10000, 0, 10);
+		myIndex.addShips(Arrays.asList(ship_200, ship_10000));
+		assertEquals(myIndex.getNbShips(), 6);
+		assertTrue(myIndex.hasAsShip(ship_200));
+		Set<ShipPair> pairs = new HashSet<ShipPair>(myIndex.getCandidatePairs());
+		assertEquals(pairs.size(), 6);
+		assertTrue(pairs.contains(new ShipPair(ship_200, ship_00)));
+		assertTrue(pairs.contains(new ShipPair(ship_200, ship_150)));
+		assertTrue(pairs.contains(new ShipPair(ship_200, ship_0100)));
+	}
+	
+	@Test
+	public void addShips_DuplicateCase() {
+		Ship ship = new Ship(20, 0, 10);
+		try {
+			myIndex.addShips(Arrays.asList(ship, ship));
+			fail();
+		}
+		catch (IllegalArgumentException exc) {
+			assertFalse(myIndex.hasAsShip(ship));
+			assertEquals(myIndex.getNbShips(), 4);
+		}
+	}
+	
+	@Test
+	public void removeShip_AbsentShipCase() {
+		myIndex.removeShip(new Ship(0, 0, 10));
+		assertEquals(myIndex.getNbShips(), 4);
+		assertEquals(myIndex.getCandidatePairs().size(), 3);
+	}
+	
+}
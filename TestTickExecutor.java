@@ -0,0 +1,135 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Collision;
+import asteroids.model.IllegalCoordinateException;
+import asteroids.model.ProductionMode;
+import asteroids.model.Ship;
+import asteroids.model.ShipPair;
+import asteroids.model.TickExecutor;
+import asteroids.model.TickExecutor.Command;
+
+public class TestTickExecutor {
+	
+	private List<Ship> myFleet;
+	private TickExecutor myExecutor;
+	private static final double EPSILON = 0.00001;
+	
+	@Before
+	public void setUp() throws Exception {
+		myFleet = new ArrayList<Ship>();
+		for (int i = 0; i < 100; i++)
+			myFleet.add(new Ship(i * 100, 0, 10));
+		myExecutor = new TickExecutor(myFleet, 4, new ForkJoinPool(4));
+	}
+	
+	@Test
+	public void constructor_LegalCase() {
+		assertEquals(myExecutor.getNbStripes(), 4);
+		assertEquals(myExecutor.getFleet(), myFleet);
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void constructor_DuplicateShipCase() {
+		myFleet.add(myFleet.get(0));
+		new TickExecutor(myFleet, 4, ForkJoinPool.commonPool());
+	}
+	
+	@Test
+	public void tick_SubmissionOrderCase() {
+		Ship ship = myFleet.get(42);
+		myExecutor.submit(ship, Command.THRUST, 10);
+		myExecutor.submit(ship, Command.MOVE, 1);
+		myExecutor.submit(ship, Command.TURN, Math.PI / 2);
+		myExecutor.submit(ship, Command.THRUST, 10);
+		myExecutor.submit(ship, Command.MOVE, 1);
+		assertEquals(ship.getxCoordinate(), 4200, EPSILON);
+		myExecutor.tick();
+		assertEquals(ship.getxCoordinate(), 4220, EPSILON);
+		assertEquals(ship.getyCoordinate(), 10, EPSILON);
+	}
+	
+	@Test
+	public void tick_OverlapCase() {
+		for (Ship ship : myFleet) {
+			myExecutor.submit(ship, Command.THRUST, 1);
+			myExecutor.submit(ship, Command.MOVE, 1);
+		}
+		myExecutor.submit(myFleet.get(1), Command.TURN, Math.PI);
+		myExecutor.submit(myFleet.get(1), Command.THRUST, 100);
+		myExecutor.submit(myFleet.get(1), Command.MOVE, 1);
+		List<ShipPair> pairs = myExecutor.tick();
+		assertEquals(pairs.size(), 1);
+		assertEquals(pairs.get(0), new ShipPair(myFleet.get(0), myFleet.get(1)));
+		assertTrue(myExecutor.tick().contains(new ShipPair(myFleet.get(0), myFleet.get(1))));
+	}
+	
+	@Test
+	public void tick_FailingCommandCase() {
+		myExecutor.submit(myFleet.get(0), Command.MOVE, -1);
+		myExecutor.submit(myFleet.get(99), Command.MOVE, 1);
+		myExecutor.submit(myFleet.get(99), Command.THRUST, 1);
+		try {
+			myExecutor.tick();
+			fail();
+		}
+		catch (IllegalArgumentException exc) {
+			assertEquals(myFleet.get(99).getxVelocity(), 1, EPSILON);
+		}
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void submit_ForeignShipCase() {
+		myExecutor.submit(new Ship(0, 0, 10), Command.MOVE, 1);
+	}
+	
+	@Test
+	public void getEarliestCollision_RegularCase() {
+		myExecutor.submit(myFleet.get(0), Command.THRUST, 10);
+		myExecutor.tick();
+		Collision collision = myExecutor.getEarliestCollision();
+		assertEquals(collision.getTime(), 8, EPSILON);
+	}
+	@Test
+	public void tick_SeveralFailingStripesCase() {
+		myExecutor.submit(myFleet.get(0), Command.MOVE, -1);
+		myExecutor.submit(myFleet.get(99), Command.MOVE, -1);
+		try {
+			myExecutor.tick();
+			fail();
+		}
+		catch (RuntimeException exc) {
+			assertTrue(exc.getCause() instanceof IllegalArgumentException);
+			assertEquals(exc.getSuppressed().length, 1);
+			assertTrue(exc.getSuppressed()[0] instanceof IllegalArgumentException);
+		}
+	}
+	
+	@Test
+	public void tick_SeveralSharedFailuresCase() {
+		ProductionMode.setEnabled(true);
+		try {
+			for (int i : new int[] {0, 99}) {
+				myExecutor.submit(myFleet.get(i), Command.THRUST, Ship.SPEED_OF_LIGHT);
+				myExecutor.submit(myFleet.get(i), Command.MOVE, Double.MAX_VALUE);
+			}
+			myExecutor.tick();
+			fail();
+		}
+		catch (IllegalCoordinateException exc) {
+			assertSame(exc, IllegalCoordinateException.getInstance());
+		}
+		finally {
+			ProductionMode.setEnabled(false);
+		}
+	}
+	
+}
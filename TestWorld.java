@@ -0,0 +1,174 @@
+package asteroids.tests;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import asteroids.model.Collision;
+import asteroids.model.Position;
+import asteroids.model.Ship;
+import asteroids.model.ShipPair;
+import asteroids.model.World;
+
+public class TestWorld {
+	
+	private World myWorld;
+	private Ship ship_00, ship_150, ship_1000;
+	
+	@Before
+	public void setUp() throws Exception {
+		myWorld = new World();
+		ship_00 = new Ship(0, 0, 10);
+		ship_150 = new Ship(15, 0, 10);
+		ship_1000 = new Ship(1000, 0, 10);
+		myWorld.addShip(ship_00);
+		myWorld.addShip(ship_150);
+		myWorld.addShip(ship_1000);
+	}
+	
+	@Test
+	public void addShip_LegalCase() {
+		assertEquals(myWorld.getNbShips(), 3);
+		assertTrue(myWorld.hasAsShip(ship_1000));
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void addShip_NonEffectiveCase() {
+		myWorld.addShip(null);
+	}
+	
+	@Test
+	public void removeShip_LegalCase() {
+		myWorld.removeShip(ship_1000);
+		assertFalse(myWorld.hasAsShip(ship_1000));
+		assertEquals(myWorld.getNbShips(), 2);
+	}
+	
+	@Test
+	public void getOverlappingPairs_RegularCase() {
+		List<ShipPair> pairs = myWorld.getOverlappingPairs();
+		assertEquals(pairs.size(), 1);
+		assertEquals(pairs.get(0), new ShipPair(ship_150, ship_00));
+	}
+	
+	@Test
+	public void getOverlappingPairs_LargeShipCase() {
+		Ship largeShip = new Ship(500, 0, 600);
+		myWorld.addShip(largeShip);
+		Set<ShipPair> pairs = new HashSet<ShipPair>(myWorld.getOverlappingPairs());
+		assertEquals(pairs.size(), 4);
+		assertTrue(pairs.contains(new ShipPair(largeShip, ship_00)));
+		assertTrue(pairs.contains(new ShipPair(largeShip, ship_1000)));
+	}
+	
+	@Test
+	public void getOverlappingPairs_RandomCase() {
+		Random random = new Random(42);
+		World world = new World();
+		for (int i = 0; i < 500; i++)
+			world.addShip(new Ship(random.nextDouble() * 1000, random.nextDouble() * 1000, 10 + random.nextDouble() * 20));
+		Set<ShipPair> expected = new HashSet<ShipPair>();
+		for (Ship ship1 : world.getShips())
+			for (Ship ship2 : world.getShips())
+				if ((ship1 != ship2) && Ship.overlap(ship1, ship2))
+					expected.add(new ShipPair(ship1, ship2));
+		List<ShipPair> pairs = world.getOverlappingPairs();
+		assertEquals(pairs.size(), expected.size());
+		assertEquals(new HashSet<ShipPair>(pairs), expected);
+	}
+	
+	@Test
+	public void getShipsWithin_RegularCase() {
+		List<Ship> ships = myWorld.getShipsWithin(20, 0, 10);
+		assertEquals(ships.size(), 2);
+		assertTrue(ships.contains(ship_00));
+		assertTrue(ships.contains(ship_150));
+	}
+	
+	@Test
+	public void getShipsWithin_LargeDistanceCase() {
+		assertEquals(myWorld.getShipsWithin(0, 0, 1e300).size(), 3);
+	}
+	
+	@Test
+	public void getShipsWithin_EmptyCase() {
+		assertTrue(myWorld.getShipsWithin(500, 500, 10).isEmpty());
+	}
+	
+	@Test
+	public void moveAndDetect_TunnelingCase() {
+		World world = new World();
+		Ship fast1 = new Ship(0, 0, 250000, 0, 10, 0);
+		Ship fast2 = new Ship(100000, 0, -250000, 0, 10, 0);
+		world.addShip(fast1);
+		world.addShip(fast2);
+		List<Collision> collisions = world.moveAndDetect(1);
+		assertEquals(collisions.size(), 1);
+		assertEquals(collisions.get(0).getTime(), 99980.0 / 500000, 1e-9);
+		assertEquals(collisions.get(0).getPosition().getxCoordinate(), 50000, 1e-6);
+		assertEquals(fast1.getxCoordinate(), 250000, 1e-6);
+		assertEquals(fast2.getxCoordinate(), -150000, 1e-6);
+	}
+	
+	@Test
+	public void moveAndDetect_OutOfRangeCase() {
+		World world = new World();
+		world.addShip(new Ship(0, 0, 10, 0, 10, 0));
+		world.addShip(new Ship(100, 0, -10, 0, 10, 0));
+		assertTrue(world.moveAndDetect(1).isEmpty());
+		assertEquals(world.moveAndDetect(10).size(), 1);
+	}
+	
+	@Test
+	public void moveAndDetect_OverlappingShipsCase() {
+		assertTrue(myWorld.moveAndDetect(1).isEmpty());
+	}
+	
+	@Test
+	public void moveAndDetect_RandomCase() {
+		Random random = new Random(7);
+		World world = new World();
+		for (int i = 0; i < 300; i++)
+			world.addShip(new Ship(i * 50, random.nextDouble() * 5000, random.nextDouble() * 200 - 100,
+					random.nextDouble() * 200 - 100, 10, 0));
+		int expected = 0;
+		for (Ship ship1 : world.getShips())
+			for (Ship ship2 : world.getShips())
+				if ((ship1 != ship2) && (Ship.getTimeToCollisionOrNaN(ship1, ship2) <= 20))
+					expected++;
+		List<Collision> collisions = world.moveAndDetect(20);
+		assertEquals(collisions.size(), expected / 2);
+		for (int i = 1; i < collisions.size(); i++)
+			assertTrue(collisions.get(i - 1).getTime() <= collisions.get(i).getTime());
+	}
+	
+	@Test(expected=IllegalArgumentException.class)
+	public void moveAndDetect_NegativeDurationCase() {
+		myWorld.moveAndDetect(-1);
+	}
+	
+	@Test
+	public void moveAndDetect_PositionCase() {
+		World world = new World();
+		Ship ship1 = new Ship(0, 0, 10, 5, 10, 0);
+		Ship ship2 = new Ship(100, 30, -10, 0, 15, 0);
+		Ship ship3 = new Ship(1000, 0, -10, 0, 10, 0);
+		world.addShip(ship1);
+		world.addShip(ship2);
+		world.addShip(ship3);
+		double time = Ship.getTimeToCollision(ship1, ship2);
+		Position position = Ship.getCollisionPosition(ship1, ship2);
+		List<Collision> collisions = world.moveAndDetect(10);
+		assertEquals(collisions.size(), 1);
+		assertEquals(collisions.get(0).getTime(), time, 0);
+		assertEquals(collisions.get(0).getPosition().getxCoordinate(), position.getxCoordinate(), 0);
+		assertEquals(collisions.get(0).getPosition().getyCoordinate(), position.getyCoordinate(), 0);
+	}
+	
+}
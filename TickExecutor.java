@@ -0,0 +1,360 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Immutable;
+
+/**
+ * A class of executors that apply commands to a fleet of ships in parallel, one tick at a time.
+ *
+ * The fleet is partitioned into stripes of consecutive ships, and each ship always belongs to the same stripe.
+ * Commands can be submitted at any time, from any thread. During a tick, each stripe applies the commands
+ * submitted for its ships since the previous tick, as a separate task on a fork/join pool. Since the commands
+ * for one ship are all applied by the same task, in the order in which they were submitted, and no two tasks
+ * share a ship, the ships need no synchronization of their own.
+ *
+ * Once all stripes have finished, which acts as a barrier, the tick ends with a collision phase in which no
+ * ship is changed. Collision queries made between two ticks see the fleet in that same consistent state.
+ *
+ * The stripes are run on a fork/join pool rather than on virtual threads. Applying commands is pure computation
+ * that never blocks, so a pool with one worker per core already keeps all cores busy, and virtual threads would
+ * only add scheduling on top of their own fork/join carrier threads. They would also require Java 21, while the
+ * rest of the code base needs no more than Java 11.
+ *
+ * @invar  The number of stripes of each executor is strictly positive.
+ *       | getNbStripes() > 0
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class TickExecutor {
+
+	/**
+	 * Initialize this new executor for the given fleet, with the given number of stripes, on the given pool.
+	 *
+	 * @param  fleet
+	 * 			The ships to which commands can be submitted.
+	 * @param  nbStripes
+	 * 			The number of stripes into which the fleet must be partitioned.
+	 * @param  pool
+	 * 			The pool on which the stripes are run.
+	 * @post   | new.getFleet().equals(fleet)
+	 * @post   | new.getNbStripes() == Math.max(1, Math.min(nbStripes, fleet.size()))
+	 * @post   | new.getPool() == pool
+	 * @throws IllegalArgumentException
+	 * 			The given fleet or pool is not effective, the fleet contains a non-effective ship or the same
+	 * 			ship twice, or the given number of stripes is not strictly positive.
+	 * 			| (fleet == null) || (pool == null) || fleet.contains(null) || (nbStripes <= 0)
+	 */
+	public TickExecutor(List<Ship> fleet, int nbStripes, ForkJoinPool pool) throws IllegalArgumentException {
+		if ((fleet == null) || (pool == null) || (nbStripes <= 0))
+			throw new IllegalArgumentException();
+		this.fleet = Collections.unmodifiableList(new ArrayList<Ship>(fleet));
+		this.pool = pool;
+		this.stripes = new Stripe[Math.max(1, Math.min(nbStripes, fleet.size()))];
+		for (int s = 0; s < stripes.length; s++)
+			stripes[s] = new Stripe();
+		for (int i = 0; i < this.fleet.size(); i++) {
+			Ship ship = this.fleet.get(i);
+			if ((ship == null) || stripeOf.containsKey(ship))
+				throw new IllegalArgumentException();
+			stripeOf.put(ship, stripes[(int) ((long) i * stripes.length / this.fleet.size())]);
+		}
+	}
+
+	/**
+	 * Initialize this new executor for the given fleet, with one stripe per thread of the common pool.
+	 *
+	 * @effect | this(fleet, ForkJoinPool.commonPool().getParallelism(), ForkJoinPool.commonPool())
+	 */
+	public TickExecutor(List<Ship> fleet) throws IllegalArgumentException {
+		this(fleet, ForkJoinPool.commonPool().getParallelism(), ForkJoinPool.commonPool());
+	}
+
+
+	/**
+	 * Return the fleet of this executor.
+	 */
+	@Basic @Immutable
+	public List<Ship> getFleet() {
+		return this.fleet;
+	}
+
+	/**
+	 * Variable referencing the fleet of this executor.
+	 */
+	private final List<Ship> fleet;
+
+	/**
+	 * Return the number of stripes of this executor.
+	 */
+	@Basic @Immutable
+	public int getNbStripes() {
+		return this.stripes.length;
+	}
+
+	/**
+	 * Return the pool on which this executor runs its stripes.
+	 */
+	@Basic @Immutable
+	public ForkJoinPool getPool() {
+		return this.pool;
+	}
+
+	/**
+	 * Variable referencing the pool on which this executor runs its stripes.
+	 */
+	private final ForkJoinPool pool;
+
+
+	/**
+	 * An enumeration of the commands that can be applied to a ship.
+	 */
+	public static enum Command {
+
+		/**
+		 * The command to move a ship during the duration given as argument.
+		 */
+		MOVE {
+			@Override
+			void apply(Ship ship, double argument) {
+				ship.move(argument);
+			}
+		},
+
+		/**
+		 * The command to thrust a ship with the amount given as argument.
+		 */
+		THRUST {
+			@Override
+			void apply(Ship ship, double argument) {
+				ship.thrust(argument);
+			}
+		},
+
+		/**
+		 * The command to turn a ship over the angle given as argument.
+		 */
+		TURN {
+			@Override
+			void apply(Ship ship, double argument) {
+				ship.turn(argument);
+			}
+		};
+
+		/**
+		 * Apply this command with the given argument to the given ship.
+		 */
+		abstract void apply(Ship ship, double argument);
+	}
+
+	/**
+	 * Submit the given command for the given ship, to be applied during the next tick.
+	 *
+	 * @param  ship
+	 * 			The ship to which the command must be applied.
+	 * @param  command
+	 * 			The command to apply.
+	 * @param  argument
+	 * 			The argument of the command.
+	 * @post   During the next tick, the given command is applied to the given ship with the given argument,
+	 * 			after all commands submitted for that ship before.
+	 * @throws IllegalArgumentException
+	 * 			The given ship is not part of the fleet of this executor, or the given command is not effective.
+	 * 			| (! getFleet().contains(ship)) || (command == null)
+	 */
+	public void submit(Ship ship, Command command, double argument) throws IllegalArgumentException {
+		Stripe stripe = stripeOf.get(ship);
+		if ((stripe == null) || (command == null))
+			throw new IllegalArgumentException();
+		stripe.add(ship, command, argument);
+	}
+
+	/**
+	 * Apply all commands submitted since the previous tick, and return the overlapping pairs of ships afterwards.
+	 * Applying the commands, building the grid of the ships and finding the overlapping pairs in it are each
+	 * recorded as an "asteroids.TickPhase" event of the flight recorder.
+	 *
+	 * @return Each pair of different ships of the fleet that overlap once all commands have been applied, exactly once.
+	 * 			| for each ship1, ship2 in getFleet():
+	 * 			|	if (ship1 != ship2)
+	 * 			|		then result.contains(new ShipPair(ship1, ship2)) == Ship.overlap(ship1, ship2)
+	 * @throws RuntimeException
+	 * 			One of the commands failed. All other commands have been applied. If all failed commands threw
+	 * 			the same exception, as happens with the shared exceptions of production mode, that exception is
+	 * 			thrown. Otherwise, a new exception is thrown whose cause is the exception of the failed command of
+	 * 			the lowest stripe, and which has the exceptions of all other failed commands as suppressed exceptions.
+	 */
+	public List<ShipPair> tick() throws RuntimeException {
+		final StripeTask[] tasks = new StripeTask[stripes.length];
+		for (int s = 0; s < stripes.length; s++)
+			tasks[s] = new StripeTask(stripes[s]);
+		TickPhaseEvent integrate = TickPhaseEvent.start(TickPhaseEvent.INTEGRATE);
+		pool.invoke(new TickTask(tasks));
+		integrate.commit(fleet.size(), 0);
+		List<RuntimeException> failures = new ArrayList<RuntimeException>();
+		for (StripeTask task : tasks)
+			for (RuntimeException exc : task.failures)
+				if (! containsIdentical(failures, exc))
+					failures.add(exc);
+		if (failures.size() == 1)
+			throw failures.get(0);
+		if (failures.size() > 1) {
+			// The exceptions of the model may be shared or may not accept suppressed exceptions,
+			//  so they are collected in a new exception instead.
+			RuntimeException failure = new RuntimeException(failures.size() + " commands failed", failures.get(0));
+			for (RuntimeException exc : failures.subList(1, failures.size()))
+				failure.addSuppressed(exc);
+			throw failure;
+		}
+		TickPhaseEvent broadPhase = TickPhaseEvent.start(TickPhaseEvent.BROAD_PHASE);
+		SpatialGrid grid = new SpatialGrid(fleet);
+		broadPhase.commit(fleet.size(), 0);
+		TickPhaseEvent narrowPhase = TickPhaseEvent.start(TickPhaseEvent.NARROW_PHASE);
+		List<ShipPair> result = grid.getOverlappingPairs();
+		narrowPhase.commit(fleet.size(), result.size());
+		return result;
+	}
+
+	/**
+	 * Return the earliest collision between two ships of the fleet, as seen between two ticks.
+	 *
+	 * @return | result.equals(CollisionMatrix.getEarliestCollisions(getFleet(), 1, getPool()).get(0)), or null if
+	 * 			|	no two ships will ever collide
+	 */
+	public Collision getEarliestCollision() {
+		List<Collision> collisions = CollisionMatrix.getEarliestCollisions(fleet, 1, pool);
+		return collisions.isEmpty() ? null : collisions.get(0);
+	}
+
+	/**
+	 * Variable referencing the stripes of this executor.
+	 */
+	private final Stripe[] stripes;
+
+	/**
+	 * Variable referencing the stripe of each ship of the fleet.
+	 */
+	private final Map<Ship, Stripe> stripeOf = new IdentityHashMap<Ship, Stripe>();
+
+
+	/**
+	 * A class of stripes collecting the commands submitted for their ships.
+	 */
+	private static class Stripe {
+
+		/**
+		 * Add the given command for the given ship to the pending commands of this stripe.
+		 */
+		private synchronized void add(Ship ship, Command command, double argument) {
+			if (nbPending == ships.length) {
+				int capacity = Math.max(16, 2 * ships.length);
+				ships = Arrays.copyOf(ships, capacity);
+				commands = Arrays.copyOf(commands, capacity);
+				arguments = Arrays.copyOf(arguments, capacity);
+			}
+			ships[nbPending] = ship;
+			commands[nbPending] = command;
+			arguments[nbPending] = argument;
+			nbPending++;
+		}
+
+		/**
+		 * Apply all pending commands of this stripe in the order in which they were added, and collect the
+		 * exceptions of the commands that fail in the given list.
+		 *
+		 * Commands added while the pending commands are being applied are left for the next tick.
+		 */
+		private void applyPending(List<RuntimeException> failures) {
+			Ship[] ships;
+			Command[] commands;
+			double[] arguments;
+			int nbCommands;
+			synchronized (this) {
+				ships = this.ships;
+				commands = this.commands;
+				arguments = this.arguments;
+				nbCommands = this.nbPending;
+				this.ships = new Ship[ships.length];
+				this.commands = new Command[commands.length];
+				this.arguments = new double[arguments.length];
+				this.nbPending = 0;
+			}
+			for (int i = 0; i < nbCommands; i++) {
+				try {
+					commands[i].apply(ships[i], arguments[i]);
+				}
+				catch (RuntimeException exc) {
+					failures.add(exc);
+				}
+			}
+		}
+
+		private Ship[] ships = new Ship[0];
+
+		private Command[] commands = new Command[0];
+
+		private double[] arguments = new double[0];
+
+		private int nbPending = 0;
+	}
+
+	/**
+	 * Check whether the given list contains the given exception itself.
+	 */
+	private static boolean containsIdentical(List<RuntimeException> failures, RuntimeException exc) {
+		for (RuntimeException failure : failures)
+			if (failure == exc)
+				return true;
+		return false;
+	}
+
+	/**
+	 * A class of tasks applying the pending commands of all stripes in parallel.
+	 */
+	private static class TickTask extends RecursiveAction {
+
+		private TickTask(StripeTask[] tasks) {
+			this.tasks = tasks;
+		}
+
+		private final StripeTask[] tasks;
+
+		@Override
+		protected void compute() {
+			ForkJoinTask.invokeAll(tasks);
+		}
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A class of tasks applying the pending commands of a single stripe.
+	 */
+	private static class StripeTask extends RecursiveAction {
+
+		private StripeTask(Stripe stripe) {
+			this.stripe = stripe;
+		}
+
+		private final Stripe stripe;
+
+		private final List<RuntimeException> failures = new ArrayList<RuntimeException>();
+
+		@Override
+		protected void compute() {
+			stripe.applyPending(failures);
+		}
+
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,77 @@
+package asteroids.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A class of flight recorder events describing a single phase of a step of a fleet of ships.
+ *
+ * The duration of the event is the duration of the phase.
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+@Name("asteroids.TickPhase")
+@Label("Tick Phase")
+@Category("Asteroids")
+@Description("A phase of a step of a fleet of ships")
+@StackTrace(false)
+final class TickPhaseEvent extends Event {
+
+	/**
+	 * Constant naming the phase in which the ships are moved, thrusted or turned.
+	 */
+	static final String INTEGRATE = "integrate";
+
+	/**
+	 * Constant naming the phase in which candidate pairs of ships are selected.
+	 */
+	static final String BROAD_PHASE = "broad-phase";
+
+	/**
+	 * Constant naming the phase in which candidate pairs of ships are checked exactly.
+	 */
+	static final String NARROW_PHASE = "narrow-phase";
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Ships")
+	@Description("The number of ships handled in the phase")
+	int nbShips;
+
+	@Label("Pairs")
+	@Description("The number of pairs of ships resulting from the phase")
+	int nbPairs;
+
+	/**
+	 * Start a new event for the given phase.
+	 */
+	static TickPhaseEvent start(String phase) {
+		TickPhaseEvent event = new TickPhaseEvent();
+		event.phase = phase;
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * End this event and commit it if it must be recorded.
+	 *
+	 * @param  nbShips
+	 * 			The number of ships handled in the phase.
+	 * @param  nbPairs
+	 * 			The number of pairs of ships resulting from the phase.
+	 */
+	void commit(int nbShips, int nbPairs) {
+		end();
+		if (! shouldCommit())
+			return;
+		this.nbShips = nbShips;
+		this.nbPairs = nbPairs;
+		commit();
+	}
+}
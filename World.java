@@ -0,0 +1,291 @@
+package asteroids.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import be.kuleuven.cs.som.annotate.Basic;
+import be.kuleuven.cs.som.annotate.Raw;
+
+/**
+ * A class representing a world containing a set of ships.
+ *
+ * Proximity queries on a world are answered through a uniform grid over the ships,
+ * so that they do not need to compare every pair of ships.
+ *
+ * @invar  Each world can have each of its ships as ship.
+ *       | for each ship in getShips():
+ *       |	canHaveAsShip(ship)
+ *
+ * @author Joris Ceulemans & Pieter Senden
+ * @version 1.0
+ */
+public class World {
+
+	/**
+	 * Initialize this new world without any ships.
+	 *
+	 * @post   This new world does not contain any ships.
+	 *       | new.getNbShips() == 0
+	 */
+	public World() {
+	}
+
+
+	/**
+	 * Return the set of ships of this world.
+	 *
+	 * @return A new set containing all the ships of this world.
+	 */
+	@Basic @Raw
+	public Set<Ship> getShips() {
+		return new LinkedHashSet<Ship>(this.ships);
+	}
+
+	/**
+	 * Return the number of ships of this world.
+	 */
+	@Basic @Raw
+	public int getNbShips() {
+		return this.ships.size();
+	}
+
+	/**
+	 * Check whether this world has the given ship as one of its ships.
+	 *
+	 * @param  ship
+	 *         The ship to check.
+	 */
+	@Basic @Raw
+	public boolean hasAsShip(Ship ship) {
+		return this.ships.contains(ship);
+	}
+
+	/**
+	 * Check whether this world can have the given ship as one of its ships.
+	 *
+	 * @param  ship
+	 *         The ship to check.
+	 * @return True iff the given ship is effective.
+	 *       | result == (ship != null)
+	 */
+	public boolean canHaveAsShip(Ship ship) {
+		return ship != null;
+	}
+
+	/**
+	 * Add the given ship to the set of ships of this world.
+	 *
+	 * @param  ship
+	 *         The ship to be added.
+	 * @post   This world has the given ship as one of its ships.
+	 *       | new.hasAsShip(ship)
+	 * @throws IllegalArgumentException
+	 *         This world cannot have the given ship as one of its ships.
+	 *       | ! canHaveAsShip(ship)
+	 */
+	public void addShip(Ship ship) throws IllegalArgumentException {
+		if (! canHaveAsShip(ship))
+			throw new IllegalArgumentException();
+		this.ships.add(ship);
+	}
+
+	/**
+	 * Remove the given ship from the set of ships of this world.
+	 *
+	 * @param  ship
+	 *         The ship to be removed.
+	 * @post   This world no longer has the given ship as one of its ships.
+	 *       | ! new.hasAsShip(ship)
+	 */
+	public void removeShip(Ship ship) {
+		this.ships.remove(ship);
+	}
+
+	/**
+	 * Variable referencing a set collecting all the ships of this world.
+	 *
+	 * @invar  The referenced set is effective.
+	 *       | ships != null
+	 * @invar  Each ship registered in the referenced set is effective.
+	 *       | for each ship in ships:
+	 *       |	ship != null
+	 */
+	private final Set<Ship> ships = new LinkedHashSet<Ship>();
+
+
+	/**
+	 * Return all the pairs of overlapping ships in this world.
+	 *
+	 * @return Each pair of different ships of this world that overlap, exactly once.
+	 *       | for each ship1, ship2 in getShips():
+	 *       |	if (ship1 != ship2)
+	 *       |		then result.contains(new ShipPair(ship1, ship2)) == Ship.overlap(ship1, ship2)
+	 */
+	public List<ShipPair> getOverlappingPairs() {
+		return getSpatialGrid().getOverlappingPairs();
+	}
+
+	/**
+	 * Return all the ships of this world within the given distance of the given point.
+	 *
+	 * @param  xCoordinate
+	 *         The xCoordinate of the point.
+	 * @param  yCoordinate
+	 *         The yCoordinate of the point.
+	 * @param  distance
+	 *         The maximal distance between the point and the ships.
+	 * @return Each ship of this world for which the distance between the given point and its centre,
+	 *         minus its radius, does not exceed the given distance, exactly once.
+	 *       | for each ship in getShips():
+	 *       |	result.contains(ship) == (Math.hypot(ship.getxCoordinate() - xCoordinate,
+	 *       |		ship.getyCoordinate() - yCoordinate) - ship.getRadius() <= distance)
+	 */
+	public List<Ship> getShipsWithin(double xCoordinate, double yCoordinate, double distance) {
+		return getSpatialGrid().getShipsWithin(xCoordinate, yCoordinate, distance);
+	}
+
+	/**
+	 * Return all the ships of this world within the given distance of the given position.
+	 *
+	 * @param  position
+	 *         The position of the point.
+	 * @param  distance
+	 *         The maximal distance between the point and the ships.
+	 * @return | result.equals(getShipsWithin(position.getxCoordinate(), position.getyCoordinate(), distance))
+	 * @throws NullPointerException
+	 *         The given position is not effective.
+	 *       | position == null
+	 */
+	public List<Ship> getShipsWithin(ImmutablePosition position, double distance) throws NullPointerException {
+		return getShipsWithin(position.getxCoordinate(), position.getyCoordinate(), distance);
+	}
+
+	/**
+	 * Move all the ships of this world during the given duration, and return every contact between
+	 * two ships that happens during that movement.
+	 *
+	 * The circle of each ship is swept over the whole interval, so fast ships that pass through each
+	 * other within a single, long movement are reported as well. Collisions are not resolved: each ship
+	 * simply moves on at its velocity. Pairs of ships that already overlap at the start of the movement
+	 * are not reported.
+	 *
+	 * Only pairs of ships whose swept bounding boxes intersect are passed to
+	 * {@link Ship#getTimeToCollisionOrNaN(Ship, Ship)}, so the cost stays close to linear in the number of
+	 * ships when contacts are rare. The position of the contact is only computed for pairs that collide
+	 * within the duration. The broad phase, the narrow phase and the movement itself are each
+	 * recorded as an "asteroids.TickPhase" event of the flight recorder.
+	 *
+	 * @param  duration
+	 *         The length of the time interval during which the ships are moved.
+	 * @effect Each ship of this world is moved during the given duration.
+	 *       | for each ship in getShips():
+	 *       |	ship.move(duration)
+	 * @return For each pair of different, non-overlapping ships of this world that collide within the given
+	 *         duration, exactly one collision with the time and position of their contact, as predicted
+	 *         before the movement. The collisions are sorted by increasing time.
+	 *       | for each ship1, ship2 in getShips():
+	 *       |	if (ship1 != ship2) && (! Ship.overlap(ship1, ship2)) && (Ship.getTimeToCollision(ship1, ship2) <= duration)
+	 *       |		then result contains a collision c with c.getTime() == Ship.getTimeToCollision(ship1, ship2)
+	 *       |			and c.getPosition() equals Ship.getCollisionPosition(ship1, ship2)
+	 *       | for each I in 1..result.size() - 1:
+	 *       |	result.get(I - 1).getTime() <= result.get(I).getTime()
+	 * @throws IllegalArgumentException
+	 *         The given duration is strictly less than 0 or is not a number.
+	 *       | (duration < 0) || Double.isNaN(duration)
+	 * @throws IllegalCoordinateException
+	 *         Some ship of this world would reach an invalid position. In that case, no ship is moved.
+	 */
+	public List<Collision> moveAndDetect(double duration) throws IllegalArgumentException, IllegalCoordinateException {
+		if (! (duration >= 0))
+			throw new IllegalArgumentException();
+		Ship[] shipArray = this.ships.toArray(new Ship[this.ships.size()]);
+		for (Ship ship : shipArray)
+			if (! Position.isValidCoordinate(ship.getxCoordinate() + duration * ship.getxVelocity())
+					|| ! Position.isValidCoordinate(ship.getyCoordinate() + duration * ship.getyVelocity()))
+				throw IllegalCoordinateException.getInstance();
+		List<Collision> result = detectCollisions(shipArray, duration);
+		TickPhaseEvent integrate = TickPhaseEvent.start(TickPhaseEvent.INTEGRATE);
+		for (Ship ship : shipArray)
+			ship.move(duration);
+		integrate.commit(shipArray.length, 0);
+		return result;
+	}
+
+	/**
+	 * Return the collisions between the given ships within the given duration, sorted by time.
+	 *
+	 * The swept bounding boxes of the ships are sorted by their lower bound along the X-axis. Sweeping
+	 * over them, each ship is only compared with the ships whose box is still open along the X-axis,
+	 * and the solver is only invoked if both boxes also intersect along the Y-axis.
+	 */
+	private static List<Collision> detectCollisions(Ship[] shipArray, double duration) {
+		int nbShips = shipArray.length;
+		TickPhaseEvent broadPhase = TickPhaseEvent.start(TickPhaseEvent.BROAD_PHASE);
+		final double[] minX = new double[nbShips];
+		double[] maxX = new double[nbShips];
+		double[] minY = new double[nbShips];
+		double[] maxY = new double[nbShips];
+		Integer[] order = new Integer[nbShips];
+		for (int i = 0; i < nbShips; i++) {
+			Ship ship = shipArray[i];
+			double x = ship.getxCoordinate();
+			double y = ship.getyCoordinate();
+			double dx = duration * ship.getxVelocity();
+			double dy = duration * ship.getyVelocity();
+			minX[i] = Math.min(x, x + dx) - ship.getRadius();
+			maxX[i] = Math.max(x, x + dx) + ship.getRadius();
+			minY[i] = Math.min(y, y + dy) - ship.getRadius();
+			maxY[i] = Math.max(y, y + dy) + ship.getRadius();
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i, Integer j) {
+				return Double.compare(minX[i], minX[j]);
+			}
+		});
+		broadPhase.commit(nbShips, 0);
+		TickPhaseEvent narrowPhase = TickPhaseEvent.start(TickPhaseEvent.NARROW_PHASE);
+		List<Collision> result = new ArrayList<Collision>();
+		for (int k = 0; k < nbShips; k++) {
+			int i = order[k];
+			for (int l = k + 1; (l < nbShips) && (minX[order[l]] <= maxX[i]); l++) {
+				int j = order[l];
+				if ((minY[j] > maxY[i]) || (minY[i] > maxY[j]))
+					continue;
+				// Overlapping ships yield NaN, which is not within the duration either.
+				double time = Ship.getTimeToCollisionOrNaN(shipArray[i], shipArray[j]);
+				if (time <= duration)
+					result.add(Ship.getCollision(shipArray[i], shipArray[j], time));
+			}
+		}
+		Collections.sort(result, COLLISION_ORDER);
+		narrowPhase.commit(nbShips, result.size());
+		return result;
+	}
+
+	/**
+	 * Constant ordering collisions by increasing time.
+	 */
+	private static final Comparator<Collision> COLLISION_ORDER = new Comparator<Collision>() {
+		@Override
+		public int compare(Collision collision1, Collision collision2) {
+			return Double.compare(collision1.getTime(), collision2.getTime());
+		}
+	};
+
+	/**
+	 * Return a spatial grid over the current positions of the ships of this world.
+	 *
+	 * The ships of a world may be moved at any time without the world being notified, so the grid
+	 * is built anew for each query. Building it takes time linear in the number of ships.
+	 */
+	private SpatialGrid getSpatialGrid() {
+		return new SpatialGrid(this.ships);
+	}
+}